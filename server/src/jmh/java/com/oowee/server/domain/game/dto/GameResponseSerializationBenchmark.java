@@ -0,0 +1,69 @@
+package com.oowee.server.domain.game.dto;
+
+import com.oowee.server.domain.game.enums.BettingType;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 응답 JSON 직렬화 비용
+ * - gameResponse: 단판 응답
+ * - diceBatchResponse: 자동 플레이 응답 (라운드 결과는 [눈, 승리, 획득] 배열 형태)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=GameResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class GameResponseSerializationBenchmark {
+
+    @Param({"100"})
+    public int rounds;
+
+    private JsonMapper jsonMapper;
+    private GameResponse gameResponse;
+    private DiceBatchResponse batchResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        gameResponse = GameResponse.builder()
+                .diceNumber(3)
+                .result(BettingType.ODD)
+                .win(true)
+                .earnedAmount(2000L)
+                .currentBalance(12_000L)
+                .message("축하합니다! 승리하셨습니다! 🎉")
+                .build();
+
+        List<DiceRoundResult> results = new ArrayList<>(rounds);
+        for (int i = 0; i < rounds; i++) {
+            int dice = i % 6 + 1;
+            results.add(new DiceRoundResult(dice, dice % 2 != 0, dice % 2 != 0 ? 2000L : 0L));
+        }
+        batchResponse = DiceBatchResponse.builder()
+                .requestedRounds(rounds)
+                .playedRounds(rounds)
+                .results(results)
+                .currentBalance(12_000L)
+                .message(rounds + "라운드를 모두 플레이했습니다.")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] gameResponse() {
+        return jsonMapper.writeValueAsBytes(gameResponse);
+    }
+
+    @Benchmark
+    public byte[] diceBatchResponse() {
+        return jsonMapper.writeValueAsBytes(batchResponse);
+    }
+}
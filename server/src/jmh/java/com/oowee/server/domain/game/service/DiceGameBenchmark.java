@@ -0,0 +1,86 @@
+package com.oowee.server.domain.game.service;
+
+import com.oowee.server.domain.game.dto.GameRequest;
+import com.oowee.server.domain.game.dto.GameResponse;
+import com.oowee.server.domain.game.rng.DiceRandom;
+import com.oowee.server.domain.game.rng.FairDice;
+import com.oowee.server.domain.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주사위 게임 판정 비용 (정산은 고정 잔액을 돌려주는 스텁으로 대체)
+ * - playDiceGame: GameService 전체 경로 (DiceRandom + 판정 + 응답 생성, 검증 가능 시드 미설정 회원)
+ * - secureRandomRoll / diceRandomRoll / threadLocalRoll: 난수 생성 비용만 비교
+ * - fairDiceRoll: 검증 가능 시드를 설정한 회원의 주사위 (HMAC-SHA256 한 번)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=DiceGameBenchmark (공유 SecureRandom 경합은 -PjmhThreads=8 로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class DiceGameBenchmark {
+
+    private GameService gameService;
+    private GameRequest request;
+    private SecureRandom secureRandom;
+    private DiceRandom diceRandom;
+    private byte[] serverSeed;
+    private long nonce;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointService pointService = new PointService(null, null, null, null, null, null, null) {
+            @Override
+            public Long settleGame(String email, Long betAmount, Long payoutAmount) {
+                return 10_000L;
+            }
+        };
+        FairnessService fairnessService = new FairnessService(null, null, 1, 1) {
+            @Override
+            public FairRolls roll(String email, int count) {
+                return null;
+            }
+        };
+        diceRandom = new DiceRandom(0, 4096);
+        gameService = new GameService(pointService, diceRandom, fairnessService, new SimpleMeterRegistry());
+        request = JsonMapper.builder().build()
+                .readValue("{\"betAmount\":1000,\"bettingType\":\"ODD\"}", GameRequest.class);
+        secureRandom = new SecureRandom();
+        serverSeed = new byte[32];
+        secureRandom.nextBytes(serverSeed);
+    }
+
+    @Benchmark
+    public GameResponse playDiceGame() {
+        return gameService.playDiceGame("bench@oowee.com", request);
+    }
+
+    @Benchmark
+    public int secureRandomRoll() {
+        return secureRandom.nextInt(6) + 1;
+    }
+
+    @Benchmark
+    public int diceRandomRoll() {
+        return diceRandom.rollDice();
+    }
+
+    @Benchmark
+    public int fairDiceRoll() {
+        return FairDice.roll(serverSeed, "bench", nonce++);
+    }
+
+    @Benchmark
+    public int threadLocalRoll() {
+        return ThreadLocalRandom.current().nextInt(6) + 1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.oowee.server.domain.point.dto;
+
+import com.oowee.server.domain.point.entity.PointType;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 내역 페이지 응답 비용
+ * - mapRows: 조회 결과 행 -> PointHistoryResponse (JPQL 생성자 프로젝션이 하는 일)
+ * - serializePage: 한 페이지 JSON 직렬화
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PointHistoryMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PointHistoryMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private JsonMapper jsonMapper;
+    private List<Object[]> rows;
+    private PointHistoryPageResponse page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        rows = new ArrayList<>(pageSize + 1);
+        for (int i = 0; i <= pageSize; i++) {
+            boolean game = i % 2 == 0;
+            rows.add(new Object[]{
+                    (long) (1_000_000 - i),
+                    game ? 1000L : -1000L,
+                    game ? PointType.GAME : PointType.USE,
+                    game ? 1000L : null,
+                    game ? 2000L : null,
+                    now.minusSeconds(i)
+            });
+        }
+        page = mapRows();
+    }
+
+    @Benchmark
+    public PointHistoryPageResponse mapRows() {
+        // 다음 페이지 여부 확인용으로 한 건 더 조회한 상황
+        List<PointHistoryResponse> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Object[] row = rows.get(i);
+            items.add(new PointHistoryResponse((Long) row[0], (Long) row[1], (PointType) row[2],
+                    (Long) row[3], (Long) row[4], (LocalDateTime) row[5]));
+        }
+        return new PointHistoryPageResponse(items, rows.size() > pageSize);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
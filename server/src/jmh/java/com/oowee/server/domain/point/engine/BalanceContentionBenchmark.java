@@ -0,0 +1,104 @@
+package com.oowee.server.domain.point.engine;
+
+import com.oowee.server.domain.point.entity.PointType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 행 락(LOCKING) 모드와 밸런스 엔진(ENGINE) 모드의 경합 상황 처리량 비교
+ * - DB 왕복은 parkNanos 로 모사 (roundTripMicros)
+ * - LOCKING: 회원 행 락을 잡은 채로 SELECT FOR UPDATE / UPDATE+INSERT / COMMIT 왕복 3번
+ * - ENGINE: 스트라이프가 모은 묶음마다 저널 기록 왕복 3번
+ * - members=1 은 한 회원에게 몰리는 핫키 상황, 1000 은 고르게 분산된 상황
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BalanceContentionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(64)
+public class BalanceContentionBenchmark {
+
+    private static final int ROUND_TRIPS_PER_COMMIT = 3;
+
+    @Param({"1", "1000"})
+    public int members;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    private ReentrantLock[] rowLocks;
+    private long[] balances;
+    private BalanceEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rowLocks = new ReentrantLock[members];
+        balances = new long[members];
+        for (int i = 0; i < members; i++) {
+            rowLocks[i] = new ReentrantLock();
+        }
+
+        engine = new BalanceEngine(new SimulatedJournal(TimeUnit.MICROSECONDS.toNanos(roundTripMicros)), 8, 256, 100_000,
+                1_000_000, 10_000);
+        engine.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.stop();
+    }
+
+    @Benchmark
+    public long lockingMode() {
+        int member = ThreadLocalRandom.current().nextInt(members);
+        ReentrantLock rowLock = rowLocks[member];
+
+        rowLock.lock();
+        try {
+            for (int i = 0; i < ROUND_TRIPS_PER_COMMIT; i++) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+            }
+            return ++balances[member];
+        } finally {
+            rowLock.unlock();
+        }
+    }
+
+    @Benchmark
+    public Long engineMode() {
+        long member = ThreadLocalRandom.current().nextInt(members);
+        return engine.apply(member, 1L, PointType.CHARGE);
+    }
+
+    private static class SimulatedJournal implements BalanceJournal {
+
+        private final long roundTripNanos;
+
+        private SimulatedJournal(long roundTripNanos) {
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        @Override
+        public OptionalLong loadBalance(Long memberId) {
+            LockSupport.parkNanos(roundTripNanos);
+            return OptionalLong.of(0L);
+        }
+
+        @Override
+        public void persist(List<BalanceChange> changes) {
+            for (int i = 0; i < ROUND_TRIPS_PER_COMMIT; i++) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+        }
+    }
+}
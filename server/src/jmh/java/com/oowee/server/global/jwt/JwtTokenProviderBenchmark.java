@@ -0,0 +1,64 @@
+package com.oowee.server.global.jwt;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증 비용
+ * - verifyCached: 필터가 실제로 타는 경로 (최근 검증된 토큰 캐시 적중)
+ * - verifyUncached: 캐시 미스 시 서명 검증 비용 (재사용 파서)
+ * - verifyNewParser: 요청마다 파서를 새로 만들던 예전 방식
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-at-least-32-bytes-long!!";
+
+    private JwtTokenProvider provider;
+    private SecretKey key;
+    private JwtParser parser;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 86_400_000L, 10_000L, 300L, new SimpleMeterRegistry());
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(key).build();
+        token = provider.createToken("bench@oowee.com");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken("bench@oowee.com");
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return provider.verify(token);
+    }
+
+    @Benchmark
+    public String verifyUncached() {
+        return parser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String verifyNewParser() {
+        return Jwts.parser().verifyWith(key).build()
+                .parseSignedClaims(token).getPayload().getSubject();
+    }
+}
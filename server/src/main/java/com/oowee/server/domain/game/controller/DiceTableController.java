@@ -0,0 +1,45 @@
+package com.oowee.server.domain.game.controller;
+
+import com.oowee.server.domain.game.dto.DiceTableBetResponse;
+import com.oowee.server.domain.game.dto.DiceTableStateResponse;
+import com.oowee.server.domain.game.dto.GameRequest;
+import com.oowee.server.domain.game.service.DiceTableService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/games/table")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.table.enabled", havingValue = "true")
+public class DiceTableController {
+
+    private final DiceTableService diceTableService;
+
+    // 멀티플레이 테이블 현재 라운드 상태 + 직전 결과
+    @GetMapping
+    public ResponseEntity<DiceTableStateResponse> getState() {
+        return ResponseEntity.ok(diceTableService.getState());
+    }
+
+    // 현재 라운드에 베팅 (결과는 라운드 종료 후 SSE table-result / game 알림으로)
+    @PostMapping("/bets")
+    public ResponseEntity<DiceTableBetResponse> placeBet(
+            @RequestBody @Valid GameRequest request,
+            Principal principal) {
+
+        if (principal == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+
+        return ResponseEntity.ok(diceTableService.placeBet(principal.getName(), request));
+    }
+}
@@ -1,11 +1,20 @@
 package com.oowee.server.domain.game.controller;
 
+import com.oowee.server.domain.game.dto.DiceBatchRequest;
+import com.oowee.server.domain.game.dto.DiceBatchResponse;
+import com.oowee.server.domain.game.dto.FairnessProof;
 import com.oowee.server.domain.game.dto.GameRequest;
 import com.oowee.server.domain.game.dto.GameResponse;
+import com.oowee.server.domain.game.dto.GameStatsResponse;
+import com.oowee.server.domain.game.dto.SeedRequest;
+import com.oowee.server.domain.game.dto.SeedRotationResponse;
+import com.oowee.server.domain.game.service.FairnessService;
 import com.oowee.server.domain.game.service.GameService;
+import com.oowee.server.domain.game.service.GameStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +28,8 @@ import java.security.Principal;
 public class GameController {
 
     private final GameService gameService;
+    private final GameStatsService gameStatsService;
+    private final FairnessService fairnessService;
 
     @PostMapping("/dice")
     public ResponseEntity<GameResponse> playDiceGame(
@@ -33,4 +44,52 @@ public class GameController {
                 gameService.playDiceGame(principal.getName(), request)
         );
     }
+
+    // 여러 라운드 한 번에 플레이 (자동 플레이)
+    @PostMapping("/dice/batch")
+    public ResponseEntity<DiceBatchResponse> playDiceGames(
+            @RequestBody @Valid DiceBatchRequest request,
+            Principal principal) {
+
+        if (principal == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+
+        return ResponseEntity.ok(
+                gameService.playDiceGames(principal.getName(), request)
+        );
+    }
+
+    // 내 게임 통계 (승률, 누적 베팅, 최대 수익, 연속 기록)
+    @GetMapping("/stats")
+    public ResponseEntity<GameStatsResponse> getMyStats(Principal principal) {
+        if (principal == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+
+        return ResponseEntity.ok(gameStatsService.getStats(principal.getName()));
+    }
+
+    // 현재 검증 가능 시드 (서버 시드는 해시만, 다음 게임의 nonce)
+    @GetMapping("/fairness")
+    public ResponseEntity<FairnessProof> getFairness(Principal principal) {
+        if (principal == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+
+        return ResponseEntity.ok(fairnessService.getCurrent(principal.getName()));
+    }
+
+    // 클라이언트 시드 설정 + 서버 시드 교체 (이전 서버 시드 공개)
+    @PostMapping("/fairness/seed")
+    public ResponseEntity<SeedRotationResponse> rotateSeed(
+            @RequestBody @Valid SeedRequest request,
+            Principal principal) {
+
+        if (principal == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+
+        return ResponseEntity.ok(fairnessService.rotate(principal.getName(), request.getClientSeed()));
+    }
 }
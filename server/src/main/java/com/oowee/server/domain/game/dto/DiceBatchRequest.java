@@ -0,0 +1,19 @@
+package com.oowee.server.domain.game.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class DiceBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "라운드는 1개 이상이어야 합니다.")
+    @Size(max = 100, message = "한 번에 최대 100라운드까지 플레이할 수 있습니다.")
+    private List<GameRequest> rounds;
+}
@@ -0,0 +1,21 @@
+package com.oowee.server.domain.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class DiceBatchResponse {
+    private int requestedRounds;            // 요청한 라운드 수
+    private int playedRounds;               // 실제 플레이된 라운드 수 (잔액 부족 시 그 앞까지)
+    private List<DiceRoundResult> results;  // 라운드별 [주사위 눈, 승리 여부, 획득 금액]
+    private Long currentBalance;            // 게임 후 잔액
+    private String message;
+
+    // 검증 정보 (라운드 i 의 nonce = nonce + i, 검증 가능 시드를 설정한 경우만)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private FairnessProof fairness;
+}
@@ -0,0 +1,20 @@
+package com.oowee.server.domain.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배치 플레이의 라운드별 결과
+ * 응답 크기를 줄이기 위해 [주사위 눈, 승리 여부, 획득 금액] 배열로 직렬화
+ */
+@Getter
+@AllArgsConstructor
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"diceNumber", "win", "earnedAmount"})
+public class DiceRoundResult {
+    private int diceNumber;
+    private boolean win;
+    private long earnedAmount;
+}
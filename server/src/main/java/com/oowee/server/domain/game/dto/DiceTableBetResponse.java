@@ -0,0 +1,17 @@
+package com.oowee.server.domain.game.dto;
+
+import com.oowee.server.domain.game.enums.BettingType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class DiceTableBetResponse {
+    private final Long roundId;
+    private final BettingType bettingType;
+    private final Long betAmount;
+    private final Long currentBalance;   // 베팅 금액 차감 후 잔액
+    private final LocalDateTime closesAt; // 베팅 마감 시각 (결과는 알림으로 전송)
+}
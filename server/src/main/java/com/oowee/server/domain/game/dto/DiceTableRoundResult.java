@@ -0,0 +1,20 @@
+package com.oowee.server.domain.game.dto;
+
+import com.oowee.server.domain.game.enums.BettingType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 라운드 결과 (테이블의 모든 접속자에게 한 번에 전송)
+ */
+@Getter
+@AllArgsConstructor
+public class DiceTableRoundResult {
+    private final Long roundId;
+    private final int diceNumber;
+    private final BettingType result;
+    private final int betCount;
+    private final int winnerCount;
+    private final long totalBet;
+    private final long totalPayout;
+}
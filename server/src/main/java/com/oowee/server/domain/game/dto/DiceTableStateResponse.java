@@ -0,0 +1,20 @@
+package com.oowee.server.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 현재 상태 (알림을 받지 못하는 클라이언트용)
+ */
+@Getter
+@AllArgsConstructor
+public class DiceTableStateResponse {
+    private final Long roundId;              // 진행 중인 라운드 (없으면 null)
+    private final boolean open;              // 베팅 가능 여부
+    private final LocalDateTime closesAt;
+    private final int betCount;
+    private final long totalBet;
+    private final DiceTableRoundResult lastResult;
+}
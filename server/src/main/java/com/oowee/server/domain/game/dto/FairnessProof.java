@@ -0,0 +1,16 @@
+package com.oowee.server.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게임 결과 검증 정보 (검증 가능 시드를 설정한 회원에게만 포함)
+ * 배치 플레이는 라운드 i 의 nonce 가 nonce + i
+ */
+@Getter
+@AllArgsConstructor
+public class FairnessProof {
+    private final String serverSeedHash;
+    private final String clientSeed;
+    private final long nonce;
+}
@@ -1,5 +1,6 @@
 package com.oowee.server.domain.game.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.oowee.server.domain.game.enums.BettingType;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,4 +14,8 @@ public class GameResponse {
     private Long earnedAmount;    // 획득한 금액 (패배 시 0)
     private Long currentBalance;  // 게임 후 잔액
     private String message;
+
+    // 검증 정보 (검증 가능 시드를 설정한 경우만)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private FairnessProof fairness;
 }
@@ -0,0 +1,31 @@
+package com.oowee.server.domain.game.dto;
+
+import lombok.Getter;
+
+/**
+ * 내 게임 통계 (캐시에 저장되는 값)
+ */
+@Getter
+public class GameStatsResponse {
+
+    public static final GameStatsResponse EMPTY = new GameStatsResponse(0L, 0L, 0L, 0L, 0L, 0);
+
+    private final long rounds;
+    private final long wins;
+    private final double winRate;        // 0 ~ 1
+    private final long totalWagered;
+    private final long netWinnings;      // 지급 합계 - 베팅 합계
+    private final long biggestWin;
+    private final int currentStreak;     // 양수: 연승, 음수: 연패
+
+    public GameStatsResponse(Long rounds, Long wins, Long totalWagered, Long totalPayout,
+                             Long biggestWin, Integer currentStreak) {
+        this.rounds = rounds;
+        this.wins = wins;
+        this.winRate = rounds == 0 ? 0.0 : (double) wins / rounds;
+        this.totalWagered = totalWagered;
+        this.netWinnings = totalPayout - totalWagered;
+        this.biggestWin = biggestWin;
+        this.currentStreak = currentStreak;
+    }
+}
@@ -0,0 +1,15 @@
+package com.oowee.server.domain.game.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SeedRequest {
+
+    @NotBlank(message = "클라이언트 시드는 필수입니다.")
+    @Size(max = 64, message = "클라이언트 시드는 64자 이하여야 합니다.")
+    private String clientSeed;
+}
@@ -0,0 +1,22 @@
+package com.oowee.server.domain.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시드 교체 결과
+ * - revealed*: 이전 시드 공개 (처음 설정하면 null), 이전 게임들을 이 값으로 검증
+ * - serverSeedHash/clientSeed: 이제부터 쓰는 시드 (nonce 는 0부터)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SeedRotationResponse {
+    private final String revealedServerSeed;
+    private final String revealedServerSeedHash;
+    private final String revealedClientSeed;
+    private final Long revealedNextNonce;      // 이전 시드로 사용한 nonce 는 이 값 미만
+    private final String serverSeedHash;
+    private final String clientSeed;
+}
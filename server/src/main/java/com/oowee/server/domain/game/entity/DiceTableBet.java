@@ -0,0 +1,50 @@
+package com.oowee.server.domain.game.entity;
+
+import com.oowee.server.domain.game.enums.BettingType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멀티플레이 테이블 베팅 (회원당 라운드 하나에 한 번)
+ * - 베팅 금액은 이 행을 저장하는 트랜잭션에서 BET 으로 차감
+ * - payout_amount 가 null 이면 아직 정산 전 (재시작 후 이어서 정산)
+ * - 저장/정산은 DiceTableService 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "dice_table_bet", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dice_table_bet_round_member", columnNames = {"round_id", "member_id"})
+}, indexes = {
+        // 라운드별 정산 순서(bet_id)대로 청크 조회
+        @Index(name = "idx_dice_table_bet_round", columnList = "round_id, bet_id")
+})
+public class DiceTableBet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bet_id")
+    private Long id;
+
+    @Column(name = "round_id", nullable = false)
+    private Long roundId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BettingType bettingType;
+
+    @Column(nullable = false)
+    private Long betAmount;
+
+    private Long payoutAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
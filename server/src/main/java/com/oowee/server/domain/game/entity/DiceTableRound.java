@@ -0,0 +1,63 @@
+package com.oowee.server.domain.game.entity;
+
+import com.oowee.server.domain.game.enums.BettingType;
+import com.oowee.server.domain.game.enums.RoundStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멀티플레이 주사위 테이블의 라운드
+ * - 베팅 시간이 끝나면 주사위 한 번으로 라운드 전체 결과 확정 (CLOSED), 정산이 끝나면 SETTLED
+ * - 상태 변경/집계는 DiceTableService 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "dice_table_round", indexes = {
+        // 재시작 시 정산이 끝나지 않은 라운드 조회용
+        @Index(name = "idx_dice_table_round_status", columnList = "status")
+})
+public class DiceTableRound {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "round_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RoundStatus status;
+
+    // 마감 후 확정 (1 ~ 6)
+    private Integer diceNumber;
+
+    @Enumerated(EnumType.STRING)
+    private BettingType result;
+
+    @Column(nullable = false)
+    private LocalDateTime openedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime closesAt;
+
+    private LocalDateTime settledAt;
+
+    // 정산 후 집계
+    private Integer betCount;
+
+    private Long totalBet;
+
+    private Long totalPayout;
+
+    @Builder
+    public DiceTableRound(LocalDateTime openedAt, LocalDateTime closesAt) {
+        this.status = RoundStatus.OPEN;
+        this.openedAt = openedAt;
+        this.closesAt = closesAt;
+    }
+}
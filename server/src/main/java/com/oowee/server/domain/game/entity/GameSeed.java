@@ -0,0 +1,41 @@
+package com.oowee.server.domain.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 검증 가능 게임 시드 (설정한 회원만 행이 있음)
+ * - 서버 시드는 교체할 때까지 해시만 공개
+ * - nonce_reserved 는 다음에 쓸 nonce (주사위마다 서버 시드가 그대로일 때만 올림 -> 인스턴스가 여러 개여도 겹치지 않음)
+ * - 저장/조회는 FairnessService 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "game_seed")
+public class GameSeed {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // 서버 시드 (hex, 교체 전까지 비공개)
+    @Column(nullable = false, length = 64)
+    private String serverSeed;
+
+    @Column(nullable = false, length = 64)
+    private String serverSeedHash;
+
+    @Column(nullable = false, length = 64)
+    private String clientSeed;
+
+    // 이 값 미만의 nonce 는 이미 사용했을 수 있음
+    @Column(nullable = false)
+    private Long nonceReserved;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,47 @@
+package com.oowee.server.domain.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 게임 통계 (누적 집계)
+ * - 게임 정산 내역과 같은 트랜잭션에서 증분 UPSERT (GameStatsWriter)
+ * - 통계 화면은 이 행 하나만 읽으면 되므로 플레이한 라운드 수와 무관
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_game_stats")
+public class MemberGameStats {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Long rounds;
+
+    @Column(nullable = false)
+    private Long wins;
+
+    // 누적 베팅/지급 금액
+    @Column(nullable = false)
+    private Long totalWagered;
+
+    @Column(nullable = false)
+    private Long totalPayout;
+
+    // 한 라운드 최대 순수익 (지급 - 베팅)
+    @Column(nullable = false)
+    private Long biggestWin;
+
+    // 현재 연속 기록 (양수: 연승, 음수: 연패)
+    @Column(nullable = false)
+    private Integer currentStreak;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,7 @@
+package com.oowee.server.domain.game.enums;
+
+public enum RoundStatus {
+    OPEN,     // 베팅 받는 중
+    CLOSED,   // 베팅 마감 + 주사위 결과 확정, 정산 중
+    SETTLED   // 정산 완료
+}
@@ -0,0 +1,13 @@
+package com.oowee.server.domain.game.repository;
+
+import com.oowee.server.domain.game.entity.DiceTableRound;
+import com.oowee.server.domain.game.enums.RoundStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DiceTableRoundRepository extends JpaRepository<DiceTableRound, Long> {
+
+    // 정산이 끝나지 않은 라운드 (재시작/정산 실패 후 이어서 처리)
+    List<DiceTableRound> findByStatusNotOrderByIdAsc(RoundStatus status);
+}
@@ -0,0 +1,18 @@
+package com.oowee.server.domain.game.repository;
+
+import com.oowee.server.domain.game.dto.GameStatsResponse;
+import com.oowee.server.domain.game.entity.MemberGameStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MemberGameStatsRepository extends JpaRepository<MemberGameStats, Long> {
+
+    // 이메일로 바로 통계 DTO 조회 (PK 조회 한 번)
+    @Query("select new com.oowee.server.domain.game.dto.GameStatsResponse(" +
+            "s.rounds, s.wins, s.totalWagered, s.totalPayout, s.biggestWin, s.currentStreak) " +
+            "from MemberGameStats s, Member m where m.id = s.memberId and m.email = :email")
+    Optional<GameStatsResponse> findStatsByEmail(@Param("email") String email);
+}
@@ -0,0 +1,95 @@
+package com.oowee.server.domain.game.rng;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게임용 주사위 난수
+ * - 스트라이프마다 독립된 DRBG(SecureRandom) + 바이트 버퍼: 요청 스레드들이 난수 생성기 하나를 두고 경합하지 않음
+ * - 버퍼는 nextBytes 로 한 번에 채우고 한 바이트씩 소비 (생성기 호출 횟수를 줄임)
+ * - 252(= 6 x 42) 이상인 바이트는 버려서 1 ~ 6 이 정확히 같은 확률
+ */
+@Component
+public class DiceRandom {
+
+    private static final int UNBIASED_LIMIT = 252;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public DiceRandom(
+            @Value("${game.rng.stripes:0}") int stripes,
+            @Value("${game.rng.buffer-size:4096}") int bufferSize) {
+
+        // 0 이면 CPU 코어 수 기준, 스레드 ID 로 고르기 위해 2의 거듭제곱으로 맞춤
+        int requested = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 2;
+        int size = requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe(bufferSize);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 주사위 한 번 (1 ~ 6)
+     */
+    public int rollDice() {
+        return stripe().nextDie();
+    }
+
+    private Stripe stripe() {
+        // 스레드 ID 를 섞어서 스트라이프 선택 (가상 스레드도 ID 가 고르게 퍼짐)
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom random;
+        private final byte[] buffer;
+        private int position;
+
+        private Stripe(int bufferSize) {
+            this.random = newGenerator();
+            this.buffer = new byte[bufferSize];
+            this.position = bufferSize;   // 첫 사용 때 채움
+        }
+
+        private int nextDie() {
+            lock.lock();
+            try {
+                while (true) {
+                    if (position == buffer.length) {
+                        random.nextBytes(buffer);
+                        position = 0;
+                    }
+                    int value = buffer[position++] & 0xFF;
+                    if (value < UNBIASED_LIMIT) {
+                        return value % 6 + 1;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 인스턴스마다 따로 시드되는 DRBG (기본 NativePRNG 는 인스턴스가 달라도 내부 락을 공유)
+        private static SecureRandom newGenerator() {
+            try {
+                return SecureRandom.getInstance("DRBG",
+                        DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
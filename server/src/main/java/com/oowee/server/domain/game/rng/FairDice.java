@@ -0,0 +1,52 @@
+package com.oowee.server.domain.game.rng;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 검증 가능한(provably fair) 주사위 계산
+ * - 주사위 = HMAC-SHA256(key = 서버 시드, message = "클라이언트 시드:nonce:0") 바이트를 앞에서부터 읽어
+ *   252 미만인 첫 값 % 6 + 1 (32바이트가 모두 252 이상이면 ":1", ":2" ... 로 다시 계산)
+ * - 서버 시드는 사용하는 동안 SHA-256 해시만 공개하고, 교체할 때 원문을 공개
+ *   -> 플레이어는 공개된 시드의 해시가 미리 받은 해시와 같은지, 각 게임의 nonce 로 같은 눈이 나오는지 확인
+ */
+public final class FairDice {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int UNBIASED_LIMIT = 252;
+
+    private FairDice() {
+    }
+
+    public static int roll(byte[] serverSeed, String clientSeed, long nonce) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(serverSeed, HMAC_ALGORITHM));
+
+            for (int round = 0; ; round++) {
+                byte[] digest = mac.doFinal((clientSeed + ":" + nonce + ":" + round).getBytes(StandardCharsets.UTF_8));
+                for (byte b : digest) {
+                    int value = b & 0xFF;
+                    if (value < UNBIASED_LIMIT) {
+                        return value % 6 + 1;
+                    }
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 공개용 서버 시드 해시 (hex)
+    public static String hash(byte[] serverSeed) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(serverSeed));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
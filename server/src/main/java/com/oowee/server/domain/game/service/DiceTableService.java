@@ -0,0 +1,392 @@
+package com.oowee.server.domain.game.service;
+
+import com.oowee.server.domain.game.dto.DiceTableBetResponse;
+import com.oowee.server.domain.game.dto.DiceTableRoundResult;
+import com.oowee.server.domain.game.dto.DiceTableStateResponse;
+import com.oowee.server.domain.game.dto.GameRequest;
+import com.oowee.server.domain.game.entity.DiceTableRound;
+import com.oowee.server.domain.game.enums.BettingType;
+import com.oowee.server.domain.game.enums.RoundStatus;
+import com.oowee.server.domain.game.repository.DiceTableRoundRepository;
+import com.oowee.server.domain.game.rng.DiceRandom;
+import com.oowee.server.domain.point.dto.BulkPayout;
+import com.oowee.server.domain.point.engine.BalanceMode;
+import com.oowee.server.domain.point.service.BulkPayoutService;
+import com.oowee.server.domain.point.service.PointService;
+import com.oowee.server.domain.push.service.PushService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 멀티플레이 주사위 테이블
+ * - 라운드마다 베팅 시간 동안 홀/짝 베팅을 받고(베팅 금액은 바로 차감), 마감 후 주사위 한 번으로 전체 결과 확정
+ * - 정산은 베팅 청크 단위로 지급 UPDATE 배치 한 번 + 내역 배치 (베팅 수만큼의 개별 트랜잭션 대신)
+ * - 라운드 시작/결과는 SSE 로 모든 접속자에게 한 번에 전송
+ * - 라운드 진행 상태는 메모리에 있으므로 단일 인스턴스 전용, 잔액을 DB에서 직접 바꾸므로 LOCKING 모드 전용
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "game.table.enabled", havingValue = "true")
+public class DiceTableService implements SmartLifecycle {
+
+    // 회원 조회와 베팅 저장을 한 번에 (회원이 없으면 0행)
+    private static final String INSERT_BET_SQL =
+            "INSERT INTO dice_table_bet (round_id, member_id, betting_type, bet_amount, created_at) "
+                    + "SELECT ?, member_id, ?, ?, ? FROM member WHERE email = ?";
+
+    private static final String CLOSE_ROUND_SQL =
+            "UPDATE dice_table_round SET status = 'CLOSED', dice_number = ?, result = ? "
+                    + "WHERE round_id = ? AND status = 'OPEN'";
+
+    private static final String UNSETTLED_BETS_SQL =
+            "SELECT b.bet_id, b.member_id, m.email, b.betting_type, b.bet_amount "
+                    + "FROM dice_table_bet b JOIN member m ON m.member_id = b.member_id "
+                    + "WHERE b.round_id = ? AND b.payout_amount IS NULL "
+                    + "ORDER BY b.bet_id LIMIT ?";
+
+    private static final String SET_PAYOUT_SQL =
+            "UPDATE dice_table_bet SET payout_amount = ? WHERE bet_id = ?";
+
+    private static final String ROUND_TOTALS_SQL =
+            "SELECT COUNT(*) AS bet_count, COALESCE(SUM(bet_amount), 0) AS total_bet, "
+                    + "COALESCE(SUM(payout_amount), 0) AS total_payout, "
+                    + "COALESCE(SUM(CASE WHEN payout_amount > 0 THEN 1 ELSE 0 END), 0) AS winner_count "
+                    + "FROM dice_table_bet WHERE round_id = ?";
+
+    private static final String SETTLE_ROUND_SQL =
+            "UPDATE dice_table_round SET status = 'SETTLED', settled_at = ?, "
+                    + "bet_count = ?, total_bet = ?, total_payout = ? WHERE round_id = ?";
+
+    private final PointService pointService;
+    private final BulkPayoutService bulkPayoutService;
+    private final PushService pushService;
+    private final DiceTableRoundRepository roundRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DiceRandom diceRandom;
+
+    private final Duration bettingWindow;
+    private final long resultPauseMillis;
+    private final int settleChunkSize;
+
+    private final Counter winRounds;
+    private final Counter loseRounds;
+    private final Counter betAmount;
+    private final Counter payoutAmount;
+
+    // 베팅 트랜잭션은 읽기 락, 마감은 쓰기 락 -> 마감 이후에 커밋되는 베팅이 없음
+    private final ReentrantReadWriteLock roundLock = new ReentrantReadWriteLock();
+    private volatile OpenRound current;
+    private volatile DiceTableRoundResult lastResult;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    // 종료 신호 (대기 중인 pause 를 바로 깨움, 정산 중인 스레드는 인터럽트하지 않음)
+    private volatile CountDownLatch stopSignal = new CountDownLatch(0);
+
+    public DiceTableService(
+            PointService pointService,
+            BulkPayoutService bulkPayoutService,
+            PushService pushService,
+            DiceTableRoundRepository roundRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            DiceRandom diceRandom,
+            MeterRegistry meterRegistry,
+            @Value("${point.balance.mode:LOCKING}") BalanceMode balanceMode,
+            @Value("${game.table.betting-window-ms:15000}") long bettingWindowMillis,
+            @Value("${game.table.result-pause-ms:3000}") long resultPauseMillis,
+            @Value("${game.table.settle-chunk-size:500}") int settleChunkSize) {
+
+        if (balanceMode != BalanceMode.LOCKING) {
+            throw new IllegalStateException("멀티플레이 테이블은 point.balance.mode=LOCKING 에서만 사용할 수 있습니다.");
+        }
+
+        this.pointService = pointService;
+        this.bulkPayoutService = bulkPayoutService;
+        this.pushService = pushService;
+        this.roundRepository = roundRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.diceRandom = diceRandom;
+        this.bettingWindow = Duration.ofMillis(bettingWindowMillis);
+        this.resultPauseMillis = resultPauseMillis;
+        this.settleChunkSize = settleChunkSize;
+
+        this.winRounds = Counter.builder("game.rounds").tag("game", "dice_table").tag("result", "win")
+                .description("정산된 게임 라운드 수").register(meterRegistry);
+        this.loseRounds = Counter.builder("game.rounds").tag("game", "dice_table").tag("result", "lose")
+                .description("정산된 게임 라운드 수").register(meterRegistry);
+        this.betAmount = Counter.builder("game.bet.amount").tag("game", "dice_table")
+                .description("베팅 금액 합계").register(meterRegistry);
+        this.payoutAmount = Counter.builder("game.payout.amount").tag("game", "dice_table")
+                .description("지급 금액 합계").register(meterRegistry);
+    }
+
+    /**
+     * 현재 라운드에 베팅 (베팅 금액 차감, 결과는 라운드 종료 후 알림으로)
+     */
+    public DiceTableBetResponse placeBet(String email, GameRequest request) {
+        roundLock.readLock().lock();
+        try {
+            OpenRound round = current;
+            if (round == null || !round.open) {
+                throw new IllegalArgumentException("지금은 베팅할 수 없습니다. 다음 라운드를 기다려주세요.");
+            }
+
+            Long balance;
+            try {
+                balance = transactionTemplate.execute(status -> {
+                    // 1. 베팅 저장 (같은 라운드 중복 베팅은 unique 제약으로 거절)
+                    int inserted = jdbcTemplate.update(INSERT_BET_SQL, round.roundId,
+                            request.getBettingType().name(), request.getBetAmount(),
+                            Timestamp.valueOf(LocalDateTime.now()), email);
+                    if (inserted == 0) {
+                        throw new IllegalArgumentException("존재하지 않는 회원입니다.");
+                    }
+
+                    // 2. 베팅 금액 차감 (잔액 부족이면 베팅 저장도 롤백)
+                    return pointService.placeBet(email, request.getBetAmount());
+                });
+            } catch (DuplicateKeyException e) {
+                throw new IllegalArgumentException("이번 라운드에는 이미 베팅했습니다.");
+            }
+
+            round.betCount.incrementAndGet();
+            round.totalBet.addAndGet(request.getBetAmount());
+            return new DiceTableBetResponse(round.roundId, request.getBettingType(), request.getBetAmount(),
+                    balance, round.closesAt);
+        } finally {
+            roundLock.readLock().unlock();
+        }
+    }
+
+    public DiceTableStateResponse getState() {
+        OpenRound round = current;
+        if (round == null) {
+            return new DiceTableStateResponse(null, false, null, 0, 0L, lastResult);
+        }
+        return new DiceTableStateResponse(round.roundId, round.open, round.closesAt,
+                round.betCount.get(), round.totalBet.get(), lastResult);
+    }
+
+    private void runTable() {
+        boolean recover = true;
+
+        while (running) {
+            // 정산이 끝나지 않은 라운드부터 (재시작 또는 직전 정산 실패)
+            if (recover) {
+                recover = !settleUnfinished();
+                if (recover) {
+                    pause(resultPauseMillis);
+                    continue;
+                }
+            }
+
+            OpenRound round;
+            try {
+                round = openRound();
+            } catch (RuntimeException e) {
+                log.error("테이블 라운드 시작 실패", e);
+                pause(resultPauseMillis);
+                continue;
+            }
+
+            // 종료 요청이 와도 열린 라운드는 마감/정산하고 끝냄 (이미 베팅 금액을 차감했으므로)
+            pause(Duration.between(LocalDateTime.now(), round.closesAt).toMillis());
+            try {
+                closeAndSettle(round);
+            } catch (RuntimeException e) {
+                log.error("테이블 라운드 정산 실패: roundId={}", round.roundId, e);
+                recover = true;
+            }
+
+            pause(resultPauseMillis);
+        }
+    }
+
+    private OpenRound openRound() {
+        LocalDateTime now = LocalDateTime.now();
+        DiceTableRound round = roundRepository.save(DiceTableRound.builder()
+                .openedAt(now)
+                .closesAt(now.plus(bettingWindow))
+                .build());
+
+        OpenRound opened = new OpenRound(round.getId(), round.getClosesAt());
+        current = opened;
+        pushService.broadcast("table-round", getState());
+        return opened;
+    }
+
+    private void closeAndSettle(OpenRound round) {
+        // 1. 마감 (진행 중인 베팅 트랜잭션이 끝날 때까지 대기)
+        roundLock.writeLock().lock();
+        try {
+            round.open = false;
+        } finally {
+            roundLock.writeLock().unlock();
+        }
+
+        // 2. 주사위 한 번으로 라운드 결과 확정 (정산 전에 저장 -> 재시작해도 같은 결과로 정산)
+        int diceNumber = diceRandom.rollDice();
+        BettingType result = (diceNumber % 2 != 0) ? BettingType.ODD : BettingType.EVEN;
+        jdbcTemplate.update(CLOSE_ROUND_SQL, diceNumber, result.name(), round.roundId);
+
+        // 3. 정산
+        settleRound(round.roundId, diceNumber, result);
+    }
+
+    // 정산이 끝나지 않은 라운드 처리, 모두 끝났으면 true
+    private boolean settleUnfinished() {
+        try {
+            for (DiceTableRound round : roundRepository.findByStatusNotOrderByIdAsc(RoundStatus.SETTLED)) {
+                if (round.getStatus() == RoundStatus.OPEN) {
+                    // 마감 전에 서버가 멈춤 -> 지금 결과를 확정
+                    int diceNumber = diceRandom.rollDice();
+                    BettingType result = (diceNumber % 2 != 0) ? BettingType.ODD : BettingType.EVEN;
+                    jdbcTemplate.update(CLOSE_ROUND_SQL, diceNumber, result.name(), round.getId());
+                    settleRound(round.getId(), diceNumber, result);
+                } else {
+                    settleRound(round.getId(), round.getDiceNumber(), round.getResult());
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("미정산 테이블 라운드 처리 실패", e);
+            return false;
+        }
+    }
+
+    private void settleRound(Long roundId, int diceNumber, BettingType result) {
+        // 1. 베팅 청크 단위로 지급 (청크마다 트랜잭션 하나, 지급액이 기록된 베팅은 다시 처리하지 않음)
+        while (true) {
+            Integer settled = transactionTemplate.execute(status -> {
+                List<BetRow> bets = jdbcTemplate.query(UNSETTLED_BETS_SQL, (rs, rowNum) -> new BetRow(
+                        rs.getLong("bet_id"), rs.getLong("member_id"), rs.getString("email"),
+                        BettingType.valueOf(rs.getString("betting_type")), rs.getLong("bet_amount")
+                ), roundId, settleChunkSize);
+
+                List<BulkPayout> payouts = new ArrayList<>(bets.size());
+                List<Object[]> args = new ArrayList<>(bets.size());
+                for (BetRow bet : bets) {
+                    // 승리 시 베팅 금액의 2배 지급 (개인 게임과 같은 배당)
+                    long payout = bet.bettingType == result ? bet.betAmount * 2 : 0L;
+                    payouts.add(new BulkPayout(bet.memberId, bet.email, bet.betAmount, payout));
+                    args.add(new Object[]{payout, bet.betId});
+                }
+
+                jdbcTemplate.batchUpdate(SET_PAYOUT_SQL, args);
+                bulkPayoutService.settle(payouts);
+                return bets.size();
+            });
+
+            if (settled == null || settled < settleChunkSize) {
+                break;
+            }
+        }
+
+        // 2. 라운드 집계 + 완료 처리
+        DiceTableRoundResult roundResult = jdbcTemplate.queryForObject(ROUND_TOTALS_SQL, (rs, rowNum) ->
+                new DiceTableRoundResult(roundId, diceNumber, result,
+                        rs.getInt("bet_count"), rs.getInt("winner_count"),
+                        rs.getLong("total_bet"), rs.getLong("total_payout")), roundId);
+
+        jdbcTemplate.update(SETTLE_ROUND_SQL, Timestamp.valueOf(LocalDateTime.now()),
+                roundResult.getBetCount(), roundResult.getTotalBet(), roundResult.getTotalPayout(), roundId);
+
+        winRounds.increment(roundResult.getWinnerCount());
+        loseRounds.increment(roundResult.getBetCount() - roundResult.getWinnerCount());
+        betAmount.increment(roundResult.getTotalBet());
+        payoutAmount.increment(roundResult.getTotalPayout());
+
+        // 3. 테이블 전체에 결과 전송 (회원별 잔액 변경은 game 알림으로 따로 전송됨)
+        lastResult = roundResult;
+        pushService.broadcast("table-result", roundResult);
+        log.info("테이블 라운드 정산: roundId={}, dice={}, bets={}, winners={}",
+                roundId, diceNumber, roundResult.getBetCount(), roundResult.getWinnerCount());
+    }
+
+    // 종료 신호가 오면 바로 반환 (종료 중: running 이 false 라 열린 라운드만 마감/정산하고 루프가 끝남)
+    private void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            stopSignal.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        stopSignal = new CountDownLatch(1);
+        running = true;
+        worker = new Thread(this::runTable, "dice-table");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 열린 라운드는 바로 마감/정산한 뒤 종료
+    // 인터럽트하지 않음 -> 정산 중인 JDBC 호출/트랜잭션이 중간에 끊기지 않고 끝까지 진행
+    @Override
+    public void stop() {
+        running = false;
+        stopSignal.countDown();
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 포인트 내역 기록기보다 먼저 멈춰야 마지막 정산 내역이 기록됨
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private static final class OpenRound {
+
+        private final Long roundId;
+        private final LocalDateTime closesAt;
+        private final AtomicInteger betCount = new AtomicInteger();
+        private final AtomicLong totalBet = new AtomicLong();
+        private volatile boolean open = true;
+
+        private OpenRound(Long roundId, LocalDateTime closesAt) {
+            this.roundId = roundId;
+            this.closesAt = closesAt;
+        }
+    }
+
+    private record BetRow(long betId, long memberId, String email, BettingType bettingType, long betAmount) {
+    }
+}
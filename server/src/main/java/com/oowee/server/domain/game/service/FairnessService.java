@@ -0,0 +1,176 @@
+package com.oowee.server.domain.game.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oowee.server.domain.game.dto.FairnessProof;
+import com.oowee.server.domain.game.dto.SeedRotationResponse;
+import com.oowee.server.domain.game.rng.FairDice;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 검증 가능(provably fair) 주사위
+ * - 회원이 클라이언트 시드를 설정하면 그 회원의 주사위는 FairDice(서버 시드, 클라이언트 시드, nonce)로 결정
+ * - 설정하지 않은 회원은 null 을 돌려주고 GameService 가 DiceRandom 을 사용
+ * - 현재 시드와 nonce 의 기준은 DB (game_seed): 주사위마다 서버 시드가 그대로일 때만 nonce 를 올리고(CAS), 올린 값을 읽어서 사용
+ *   -> 다른 인스턴스에서 시드를 교체(공개)했으면 0행 -> 새 시드를 다시 읽음 (공개된 시드로는 굴리지 않음)
+ * - 캐시는 시드 조회(회원 ID, 시드 해시)만 줄이는 용도로 짧게 유지
+ */
+@Service
+public class FairnessService {
+
+    private static final String FIND_SQL =
+            "SELECT s.member_id, s.server_seed, s.client_seed, s.nonce_reserved "
+                    + "FROM game_seed s JOIN member m ON m.member_id = s.member_id WHERE m.email = ?";
+
+    // 서버 시드가 캐시와 같을 때만 nonce 사용 (교체됐으면 0행)
+    private static final String RESERVE_SQL =
+            "UPDATE game_seed SET nonce_reserved = nonce_reserved + ? WHERE member_id = ? AND server_seed = ?";
+
+    private static final String RESERVED_SQL =
+            "SELECT nonce_reserved FROM game_seed WHERE member_id = ?";
+
+    // 같은 회원의 시드 교체를 순서대로 (이전 시드를 빠짐없이 한 번씩 공개)
+    private static final String LOCK_MEMBER_SQL =
+            "SELECT member_id FROM member WHERE email = ? FOR UPDATE";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO game_seed (member_id, server_seed, server_seed_hash, client_seed, nonce_reserved, created_at) "
+                    + "VALUES (?, ?, ?, ?, 0, ?) "
+                    + "ON DUPLICATE KEY UPDATE server_seed = VALUES(server_seed), "
+                    + "server_seed_hash = VALUES(server_seed_hash), client_seed = VALUES(client_seed), "
+                    + "nonce_reserved = 0, created_at = VALUES(created_at)";
+
+    // 시드를 설정하지 않은 회원 (매번 DB를 조회하지 않도록 캐시)
+    private static final SeedState NONE = new SeedState(null, null, null, null, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, SeedState> seeds;
+    private final SecureRandom seedRandom = new SecureRandom();
+
+    public FairnessService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${game.fairness.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${game.fairness.cache.ttl-seconds:10}") long cacheTtlSeconds) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.seeds = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 연속된 nonce 로 주사위 count 개 (시드를 설정하지 않은 회원이면 null)
+     */
+    public FairRolls roll(String email, int count) {
+        while (true) {
+            SeedState state = seeds.get(email, this::load);
+            if (state == NONE) {
+                return null;
+            }
+
+            Long firstNonce = reserve(state, count);
+            if (firstNonce == null) {
+                // 그 사이 시드가 교체됨 -> 캐시를 버리고 DB에서 새 시드로
+                seeds.asMap().remove(email, state);
+                continue;
+            }
+
+            int[] diceNumbers = new int[count];
+            for (int i = 0; i < count; i++) {
+                diceNumbers[i] = FairDice.roll(state.serverSeed, state.clientSeed, firstNonce + i);
+            }
+            return new FairRolls(new FairnessProof(state.serverSeedHash, state.clientSeed, firstNonce), diceNumbers);
+        }
+    }
+
+    /**
+     * 현재 시드 정보 (서버 시드는 해시만, nonce 는 DB 기준 다음 값)
+     */
+    public FairnessProof getCurrent(String email) {
+        SeedState state = load(email);
+        if (state == NONE) {
+            throw new IllegalArgumentException("검증 가능 시드를 설정하지 않았습니다.");
+        }
+        seeds.put(email, state);
+        return new FairnessProof(state.serverSeedHash, state.clientSeed, state.nonce);
+    }
+
+    /**
+     * 클라이언트 시드 설정 + 서버 시드 교체 (이전 서버 시드 공개)
+     */
+    public SeedRotationResponse rotate(String email, String clientSeed) {
+        byte[] serverSeed = new byte[32];
+        seedRandom.nextBytes(serverSeed);
+        String serverSeedHex = HexFormat.of().formatHex(serverSeed);
+        String serverSeedHash = FairDice.hash(serverSeed);
+
+        SeedRotationResponse response = transactionTemplate.execute(status -> {
+            // 회원 행 락 -> 같은 회원의 교체끼리 순서대로, 이전 시드/nonce 는 교체 직전 값
+            List<Long> memberIds = jdbcTemplate.queryForList(LOCK_MEMBER_SQL, Long.class, email);
+            if (memberIds.isEmpty()) {
+                throw new IllegalArgumentException("존재하지 않는 회원입니다.");
+            }
+            SeedState previous = load(email);
+
+            jdbcTemplate.update(UPSERT_SQL, memberIds.get(0), serverSeedHex, serverSeedHash, clientSeed,
+                    Timestamp.valueOf(LocalDateTime.now()));
+
+            // 공개된 시드로 굴리려는 요청은 RESERVE_SQL 이 0행이 되어 새 시드로 다시 시도
+            if (previous == NONE) {
+                return new SeedRotationResponse(null, null, null, null, serverSeedHash, clientSeed);
+            }
+            return new SeedRotationResponse(HexFormat.of().formatHex(previous.serverSeed),
+                    previous.serverSeedHash, previous.clientSeed, previous.nonce,
+                    serverSeedHash, clientSeed);
+        });
+
+        // 이 인스턴스의 캐시는 바로 비움 (다른 인스턴스는 다음 주사위에서 0행으로 알게 됨)
+        seeds.invalidate(email);
+        return response;
+    }
+
+    private SeedState load(String email) {
+        List<SeedState> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> {
+            byte[] serverSeed = HexFormat.of().parseHex(rs.getString("server_seed"));
+            return new SeedState(rs.getLong("member_id"), serverSeed, FairDice.hash(serverSeed),
+                    rs.getString("client_seed"), rs.getLong("nonce_reserved"));
+        }, email);
+        return rows.isEmpty() ? NONE : rows.get(0);
+    }
+
+    // 서버 시드가 그대로면 nonce count 개를 쓰고 첫 nonce 반환, 교체됐으면 null
+    // UPDATE 로 잡은 행 락을 들고 바로 읽으므로 다른 요청(다른 인스턴스 포함)과 nonce 가 겹치지 않음
+    private Long reserve(SeedState state, int count) {
+        return transactionTemplate.execute(status -> {
+            int updated = jdbcTemplate.update(RESERVE_SQL, count, state.memberId,
+                    HexFormat.of().formatHex(state.serverSeed));
+            if (updated == 0) {
+                return null;
+            }
+            Long reserved = jdbcTemplate.queryForObject(RESERVED_SQL, Long.class, state.memberId);
+            return reserved - count;
+        });
+    }
+
+    public record FairRolls(FairnessProof proof, int[] diceNumbers) {
+    }
+
+    // 캐시에 두는 시드 정보 (nonce 는 조회 시점의 DB 값, 주사위에는 쓰지 않음)
+    private record SeedState(Long memberId, byte[] serverSeed, String serverSeedHash, String clientSeed,
+                             long nonce) {
+    }
+}
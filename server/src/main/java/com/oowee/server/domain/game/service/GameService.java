@@ -1,42 +1,71 @@
 package com.oowee.server.domain.game.service;
 
+import com.oowee.server.domain.game.dto.DiceBatchRequest;
+import com.oowee.server.domain.game.dto.DiceBatchResponse;
+import com.oowee.server.domain.game.dto.DiceRoundResult;
+import com.oowee.server.domain.game.dto.FairnessProof;
 import com.oowee.server.domain.game.dto.GameRequest;
 import com.oowee.server.domain.game.dto.GameResponse;
 import com.oowee.server.domain.game.enums.BettingType;
+import com.oowee.server.domain.game.rng.DiceRandom;
+import com.oowee.server.domain.point.dto.SettlementResult;
 import com.oowee.server.domain.point.service.PointService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class GameService {
 
     private final PointService pointService;
-    private final SecureRandom random = new SecureRandom();
+    private final DiceRandom diceRandom;
+    private final FairnessService fairnessService;
 
-    @Transactional
-    public GameResponse playDiceGame(String email, GameRequest request) {
-        // 1. 참가비 먼저 차감
-        Long remainingPoints = pointService.usePoints(email, request.getBetAmount());
+    // 정산된 라운드 기준 지표 (승률 = win / 전체, 하우스 엣지 = 1 - 지급 합계 / 베팅 합계)
+    private final Counter winRounds;
+    private final Counter loseRounds;
+    private final Counter betAmount;
+    private final Counter payoutAmount;
+
+    public GameService(PointService pointService, DiceRandom diceRandom, FairnessService fairnessService,
+                       MeterRegistry meterRegistry) {
+        this.pointService = pointService;
+        this.diceRandom = diceRandom;
+        this.fairnessService = fairnessService;
+        this.winRounds = Counter.builder("game.rounds").tag("game", "dice").tag("result", "win")
+                .description("정산된 게임 라운드 수").register(meterRegistry);
+        this.loseRounds = Counter.builder("game.rounds").tag("game", "dice").tag("result", "lose")
+                .description("정산된 게임 라운드 수").register(meterRegistry);
+        this.betAmount = Counter.builder("game.bet.amount").tag("game", "dice")
+                .description("베팅 금액 합계").register(meterRegistry);
+        this.payoutAmount = Counter.builder("game.payout.amount").tag("game", "dice")
+                .description("지급 금액 합계").register(meterRegistry);
+    }
 
-        // 2. 주사위 굴리기 (1 ~ 6)
-        int diceNumber = random.nextInt(6) + 1;
+    /**
+     * 주사위 게임
+     * 주사위를 먼저 굴린 뒤 베팅/지급을 합친 순변동만 한 번에 정산
+     */
+    public GameResponse playDiceGame(String email, GameRequest request) {
+        // 1. 주사위 굴리기 (1 ~ 6, 검증 가능 시드를 설정한 회원은 시드로 계산)
+        FairnessService.FairRolls fair = fairnessService.roll(email, 1);
+        int diceNumber = fair != null ? fair.diceNumbers()[0] : diceRandom.rollDice();
 
-        // 3. 주사위 결과 판정 (홀/짝)
+        // 2. 주사위 결과 판정 (홀/짝)
         BettingType diceResult = (diceNumber % 2 != 0) ? BettingType.ODD : BettingType.EVEN;
 
-        // 4. 승패 결정
+        // 3. 승패 결정
         boolean isWin = diceResult == request.getBettingType();
-        long earnedAmount = 0L;
 
-        if (isWin) {
-            // 승리 시: 베팅 금액의 2배 지급 (원금 회수 + 1배 이득)
-            earnedAmount = request.getBetAmount() * 2;
-            remainingPoints = pointService.chargePoints(email, earnedAmount);
-        }
+        // 승리 시: 베팅 금액의 2배 지급 (원금 회수 + 1배 이득)
+        long earnedAmount = isWin ? request.getBetAmount() * 2 : 0L;
+
+        // 4. 정산 (잔액이 베팅 금액보다 적으면 예외 -> 결과는 버려짐)
+        Long remainingPoints = pointService.settleGame(email, request.getBetAmount(), earnedAmount);
+        recordRound(isWin, request.getBetAmount(), earnedAmount);
 
         // 5. 결과
         return GameResponse.builder()
@@ -46,6 +75,67 @@ public class GameService {
                 .earnedAmount(earnedAmount)
                 .currentBalance(remainingPoints)
                 .message(isWin ? "축하합니다! 승리하셨습니다! 🎉" : "아쉽게도 패배하셨습니다.. 😭")
+                .fairness(proofOf(fair))
+                .build();
+    }
+
+    /**
+     * 주사위 게임 여러 라운드 (자동 플레이)
+     * - 모든 라운드를 먼저 굴린 뒤 회원 락 한 번 안에서 순서대로 정산
+     * - 베팅 금액을 낼 수 없는 라운드에서 멈추고 그 앞까지만 결과로 돌려줌
+     */
+    public DiceBatchResponse playDiceGames(String email, DiceBatchRequest request) {
+        List<GameRequest> rounds = request.getRounds();
+        int size = rounds.size();
+
+        int[] diceNumbers = new int[size];
+        boolean[] wins = new boolean[size];
+        long[] betAmounts = new long[size];
+        long[] payoutAmounts = new long[size];
+
+        // 1. 전체 라운드 주사위 굴리기 + 승패 판정 (검증 가능 시드는 라운드마다 nonce + i)
+        FairnessService.FairRolls fair = fairnessService.roll(email, size);
+        for (int i = 0; i < size; i++) {
+            GameRequest round = rounds.get(i);
+            diceNumbers[i] = fair != null ? fair.diceNumbers()[i] : diceRandom.rollDice();
+
+            BettingType diceResult = (diceNumbers[i] % 2 != 0) ? BettingType.ODD : BettingType.EVEN;
+            wins[i] = diceResult == round.getBettingType();
+
+            betAmounts[i] = round.getBetAmount();
+            payoutAmounts[i] = wins[i] ? round.getBetAmount() * 2 : 0L;
+        }
+
+        // 2. 한 번에 정산 (잔액이 부족한 라운드에서 멈춤)
+        SettlementResult settlement = pointService.settleGames(email, betAmounts, payoutAmounts);
+
+        // 3. 정산된 라운드까지만 결과로
+        int played = settlement.getSettledRounds();
+        List<DiceRoundResult> results = new ArrayList<>(played);
+        for (int i = 0; i < played; i++) {
+            results.add(new DiceRoundResult(diceNumbers[i], wins[i], payoutAmounts[i]));
+            recordRound(wins[i], betAmounts[i], payoutAmounts[i]);
+        }
+
+        return DiceBatchResponse.builder()
+                .requestedRounds(size)
+                .playedRounds(played)
+                .results(results)
+                .currentBalance(settlement.getBalance())
+                .message(played < size
+                        ? "포인트가 부족해 " + played + "라운드에서 멈췄습니다."
+                        : played + "라운드를 모두 플레이했습니다.")
+                .fairness(proofOf(fair))
                 .build();
     }
+
+    private static FairnessProof proofOf(FairnessService.FairRolls fair) {
+        return fair != null ? fair.proof() : null;
+    }
+
+    private void recordRound(boolean win, long bet, long payout) {
+        (win ? winRounds : loseRounds).increment();
+        betAmount.increment(bet);
+        payoutAmount.increment(payout);
+    }
 }
@@ -0,0 +1,56 @@
+package com.oowee.server.domain.game.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oowee.server.domain.game.dto.GameStatsResponse;
+import com.oowee.server.domain.game.repository.MemberGameStatsRepository;
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 내 게임 통계 조회
+ * - 캐시 -> 없으면 member_game_stats 행 하나 조회 (플레이 라운드 수와 무관하게 O(1))
+ * - 게임 정산이 커밋되면 해당 회원 캐시를 바로 무효화
+ */
+@Service
+public class GameStatsService {
+
+    private final MemberGameStatsRepository memberGameStatsRepository;
+    private final Cache<String, GameStatsResponse> cache;
+
+    public GameStatsService(
+            MemberGameStatsRepository memberGameStatsRepository,
+            MeterRegistry meterRegistry,
+            @Value("${game.stats.cache.max-size:10000}") long maxSize,
+            @Value("${game.stats.cache.ttl-seconds:300}") long ttlSeconds) {
+
+        this.memberGameStatsRepository = memberGameStatsRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "game.stats");
+    }
+
+    public GameStatsResponse getStats(String email) {
+        // 아직 게임 기록이 없으면 0으로 채운 통계
+        return cache.get(email, key -> memberGameStatsRepository.findStatsByEmail(key)
+                .orElse(GameStatsResponse.EMPTY));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(PointBalanceChangedEvent event) {
+        if (event.getType() == PointType.GAME) {
+            cache.invalidate(event.getEmail());
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.oowee.server.domain.game.stats;
+
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 게임 통계 증분 기록기
+ * - GAME 잔액 변경 이벤트(PointBalanceChangedEvent)를 트랜잭션마다 모아 두었다가 커밋 직전(beforeCommit)에 기록
+ *   -> 게임 정산과 같은 트랜잭션에서 커밋되거나 함께 롤백됨
+ * - 모은 정산을 회원별 변화량(라운드/승리/금액/연속 기록)으로 합쳐 회원당 UPSERT 한 번
+ * - 게임 정산은 회원 행 락(락 모드) 또는 회원별 스트라이프(엔진 모드) 안에서 순서대로 일어나므로 연속 기록도 순서가 맞음
+ * - 엔진 모드는 저널이 커밋된 뒤 트랜잭션 밖에서 이벤트가 오므로 바로 UPSERT
+ *   -> 실패하면 변화량을 회원별 재시도 대기열에 합쳐 두고 주기적으로 다시 기록 (대기 중인 회원의 이후 정산도 순서대로 뒤에 합침)
+ * - 대기열은 메모리에만 있으므로, 종료 시점까지 기록하지 못한 회원은 경고 로그에 남김
+ *   -> 해당 회원이 게임 중이 아닐 때 rebuild(memberId)로 point_history 의 GAME 내역에서 통계를 다시 계산
+ *   -> 통계가 내역과 어긋난 것으로 의심될 때(수동 DB 수정, 장애 복구 후)도 같은 방법으로 맞춤
+ */
+@Slf4j
+@Component
+public class GameStatsWriter {
+
+    // 연속 기록: 이번 묶음이 한 가지 결과로만 이루어졌고 기존 기록과 같은 방향이면 이어 붙이고, 아니면 묶음 끝의 기록으로 교체
+    private static final String UPSERT_SQL =
+            "INSERT INTO member_game_stats "
+                    + "(member_id, rounds, wins, total_wagered, total_payout, biggest_win, current_streak, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "current_streak = CASE WHEN ? AND SIGN(current_streak) = SIGN(VALUES(current_streak)) "
+                    + "THEN current_streak + VALUES(current_streak) ELSE VALUES(current_streak) END, "
+                    + "rounds = rounds + VALUES(rounds), wins = wins + VALUES(wins), "
+                    + "total_wagered = total_wagered + VALUES(total_wagered), "
+                    + "total_payout = total_payout + VALUES(total_payout), "
+                    + "biggest_win = GREATEST(biggest_win, VALUES(biggest_win)), "
+                    + "updated_at = VALUES(updated_at)";
+
+    // 재계산: 내역에서 구한 값으로 덮어씀
+    private static final String REPLACE_SQL =
+            "INSERT INTO member_game_stats "
+                    + "(member_id, rounds, wins, total_wagered, total_payout, biggest_win, current_streak, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "rounds = VALUES(rounds), wins = VALUES(wins), "
+                    + "total_wagered = VALUES(total_wagered), total_payout = VALUES(total_payout), "
+                    + "biggest_win = VALUES(biggest_win), current_streak = VALUES(current_streak), "
+                    + "updated_at = VALUES(updated_at)";
+
+    private static final String REBUILD_TOTALS_SQL =
+            "SELECT COUNT(*) AS rounds, "
+                    + "COALESCE(SUM(CASE WHEN payout_amount > bet_amount THEN 1 ELSE 0 END), 0) AS wins, "
+                    + "COALESCE(SUM(bet_amount), 0) AS total_wagered, "
+                    + "COALESCE(SUM(payout_amount), 0) AS total_payout, "
+                    + "COALESCE(MAX(CASE WHEN payout_amount > bet_amount THEN payout_amount - bet_amount END), 0) AS biggest_win "
+                    + "FROM point_history WHERE member_id = ? AND type = 'GAME' AND bet_amount IS NOT NULL";
+
+    // 연속 기록은 최근 정산부터 결과가 바뀔 때까지만 읽음
+    private static final String REBUILD_RECENT_SQL =
+            "SELECT bet_amount, payout_amount FROM point_history "
+                    + "WHERE member_id = ? AND type = 'GAME' AND bet_amount IS NOT NULL "
+                    + "ORDER BY created_at DESC, point_history_id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer flushTimer;
+
+    // 엔진 모드에서 기록에 실패한 회원별 변화량 (재시도 대기)
+    private final ConcurrentHashMap<Long, StatsDelta> pendingRetries = new ConcurrentHashMap<>();
+
+    public GameStatsWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTimer = Timer.builder("game.stats.flush")
+                .description("게임 통계 UPSERT 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("game.stats.retry.pending", pendingRetries, Map::size)
+                .description("기록 재시도를 기다리는 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게임 정산 한 건 (트랜잭션 안이면 커밋 직전에 모아서, 밖이면 바로 기록)
+     */
+    @EventListener
+    public void onBalanceChanged(PointBalanceChangedEvent event) {
+        if (event.getType() != PointType.GAME || event.getBetAmount() == null) {
+            return;
+        }
+        long payout = event.getPayoutAmount() != null ? event.getPayoutAmount() : 0L;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentDeltas().computeIfAbsent(event.getMemberId(), StatsDelta::new).add(event.getBetAmount(), payout);
+            return;
+        }
+
+        StatsDelta delta = new StatsDelta(event.getMemberId());
+        delta.add(event.getBetAmount(), payout);
+
+        // 이미 재시도를 기다리는 회원이면 순서를 지키도록 대기분 뒤에 합침
+        if (pendingRetries.computeIfPresent(delta.memberId, (id, pending) -> pending.then(delta)) != null) {
+            return;
+        }
+        try {
+            write(Map.of(delta.memberId, delta));
+        } catch (RuntimeException e) {
+            log.warn("게임 통계 기록 실패, 재시도 대기: memberId={}, reason={}", event.getMemberId(), e.getMessage());
+            requeue(delta);
+        }
+    }
+
+    /**
+     * 엔진 모드에서 기록하지 못한 변화량 재시도 (DB 가 아직 실패하면 이번 주기는 중단)
+     */
+    @Scheduled(fixedDelayString = "${game.stats.retry-interval-ms:5000}")
+    public void retryFailed() {
+        for (Long memberId : pendingRetries.keySet()) {
+            StatsDelta delta = pendingRetries.remove(memberId);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                write(Map.of(memberId, delta));
+            } catch (RuntimeException e) {
+                requeue(delta);
+                log.warn("게임 통계 재시도 실패: pending={}, reason={}", pendingRetries.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushRetries() {
+        retryFailed();
+        if (!pendingRetries.isEmpty()) {
+            log.warn("게임 통계를 기록하지 못하고 종료, rebuild 필요: memberIds={}", pendingRetries.keySet());
+        }
+    }
+
+    /**
+     * point_history 의 GAME 내역으로 회원 통계를 다시 계산해 덮어씀
+     * - 진행 중인 정산과 겹치면 그 한 건이 두 번 반영될 수 있으므로 회원이 게임 중이 아닐 때 실행
+     */
+    public void rebuild(Long memberId) {
+        // 대기 중인 변화량은 내역에 이미 있으므로 버림
+        pendingRetries.remove(memberId);
+
+        StatsDelta totals = jdbcTemplate.queryForObject(REBUILD_TOTALS_SQL, (rs, rowNum) -> {
+            StatsDelta delta = new StatsDelta(memberId);
+            delta.rounds = rs.getLong("rounds");
+            delta.wins = rs.getLong("wins");
+            delta.wagered = rs.getLong("total_wagered");
+            delta.payout = rs.getLong("total_payout");
+            delta.biggestWin = rs.getLong("biggest_win");
+            return delta;
+        }, memberId);
+
+        Integer streak = jdbcTemplate.query(REBUILD_RECENT_SQL, rs -> {
+            int count = 0;
+            while (rs.next()) {
+                int sign = rs.getLong("payout_amount") > rs.getLong("bet_amount") ? 1 : -1;
+                if (count != 0 && Integer.signum(count) != sign) {
+                    break;
+                }
+                count += sign;
+            }
+            return count;
+        }, memberId);
+
+        jdbcTemplate.update(REPLACE_SQL, memberId, totals.rounds, totals.wins, totals.wagered, totals.payout,
+                totals.biggestWin, streak != null ? streak : 0, Timestamp.valueOf(LocalDateTime.now()));
+        log.info("게임 통계 재계산: memberId={}, rounds={}", memberId, totals.rounds);
+    }
+
+    // 실패한 변화량을 그 사이 쌓인 대기분 앞에 다시 넣음
+    private void requeue(StatsDelta failed) {
+        pendingRetries.merge(failed.memberId, failed, (newer, older) -> older.then(newer));
+    }
+
+    // 트랜잭션마다 회원별 변화량을 묶어두고, 커밋 직전에 기록
+    private Map<Long, StatsDelta> currentDeltas() {
+        @SuppressWarnings("unchecked")
+        Map<Long, StatsDelta> deltas = (Map<Long, StatsDelta>) TransactionSynchronizationManager.getResource(this);
+        if (deltas != null) {
+            return deltas;
+        }
+
+        Map<Long, StatsDelta> newDeltas = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, newDeltas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(newDeltas);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(GameStatsWriter.this);
+            }
+        });
+        return newDeltas;
+    }
+
+    private void write(Map<Long, StatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 여러 회원이 한 트랜잭션에 묶이는 경우(테이블 라운드 일괄 지급) 행 락 순서를 일정하게
+        List<StatsDelta> rows = new ArrayList<>(deltas.values());
+        rows.sort(Comparator.comparingLong(StatsDelta::getMemberId));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        flushTimer.record(() -> jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, delta) -> {
+            ps.setLong(1, delta.memberId);
+            ps.setLong(2, delta.rounds);
+            ps.setLong(3, delta.wins);
+            ps.setLong(4, delta.wagered);
+            ps.setLong(5, delta.payout);
+            ps.setLong(6, delta.biggestWin);
+            ps.setInt(7, delta.streak);
+            ps.setTimestamp(8, now);
+            ps.setBoolean(9, delta.uniform);
+        }));
+    }
+
+    // 회원 한 명의 묶음 안 변화량
+    private static class StatsDelta {
+
+        private final long memberId;
+        private long rounds;
+        private long wins;
+        private long wagered;
+        private long payout;
+        private long biggestWin;
+        private int streak;              // 묶음 끝의 연속 기록 (양수: 연승, 음수: 연패)
+        private boolean uniform = true;  // 묶음 전체가 같은 결과인지
+
+        private StatsDelta(long memberId) {
+            this.memberId = memberId;
+        }
+
+        private long getMemberId() {
+            return memberId;
+        }
+
+        private void add(long bet, long payoutAmount) {
+            boolean win = payoutAmount > bet;
+            rounds++;
+            wagered += bet;
+            payout += payoutAmount;
+            if (win) {
+                wins++;
+                biggestWin = Math.max(biggestWin, payoutAmount - bet);
+            }
+
+            int sign = win ? 1 : -1;
+            if (streak == 0 || Integer.signum(streak) == sign) {
+                streak += sign;
+            } else {
+                streak = sign;
+                uniform = false;
+            }
+        }
+
+        // 이 변화량 뒤에 일어난 변화량을 이어 붙임
+        private StatsDelta then(StatsDelta later) {
+            rounds += later.rounds;
+            wins += later.wins;
+            wagered += later.wagered;
+            payout += later.payout;
+            biggestWin = Math.max(biggestWin, later.biggestWin);
+            if (later.uniform && (streak == 0 || Integer.signum(streak) == Integer.signum(later.streak))) {
+                streak += later.streak;
+            } else {
+                streak = later.streak;
+                uniform = false;
+            }
+            return this;
+        }
+    }
+}
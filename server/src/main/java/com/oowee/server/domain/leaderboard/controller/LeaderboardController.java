@@ -0,0 +1,35 @@
+package com.oowee.server.domain.leaderboard.controller;
+
+import com.oowee.server.domain.leaderboard.dto.LeaderboardResponse;
+import com.oowee.server.domain.leaderboard.dto.LeaderboardType;
+import com.oowee.server.domain.leaderboard.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    // 리더보드 조회 (type: POINTS, DAILY_WINNINGS, WEEKLY_WINNINGS)
+    @GetMapping
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @RequestParam(defaultValue = "POINTS") String type,
+            @RequestParam(defaultValue = "10") int size) {
+
+        LeaderboardType leaderboardType;
+        try {
+            leaderboardType = LeaderboardType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 리더보드 종류입니다: " + type);
+        }
+
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(leaderboardType, size));
+    }
+}
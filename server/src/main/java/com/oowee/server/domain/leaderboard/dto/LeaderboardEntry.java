@@ -0,0 +1,12 @@
+package com.oowee.server.domain.leaderboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntry {
+    private final int rank;
+    private final String nickname;
+    private final long score;   // 포인트 또는 순수익
+}
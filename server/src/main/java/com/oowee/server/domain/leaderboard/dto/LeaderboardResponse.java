@@ -0,0 +1,15 @@
+package com.oowee.server.domain.leaderboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardResponse {
+    private final LeaderboardType type;
+    private final LocalDate windowStart;   // 기간 랭킹의 시작일 (POINTS 는 null)
+    private final List<LeaderboardEntry> entries;
+}
@@ -0,0 +1,7 @@
+package com.oowee.server.domain.leaderboard.dto;
+
+public enum LeaderboardType {
+    POINTS,           // 현재 보유 포인트
+    DAILY_WINNINGS,   // 오늘 게임 순수익 (지급 - 베팅)
+    WEEKLY_WINNINGS   // 이번 주(월요일 시작) 게임 순수익
+}
@@ -0,0 +1,369 @@
+package com.oowee.server.domain.leaderboard.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.oowee.server.domain.leaderboard.dto.LeaderboardResponse;
+import com.oowee.server.domain.leaderboard.dto.LeaderboardType;
+import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 리더보드 (메모리 상위 K 랭킹)
+ * - 잔액 변경 이벤트(충전/사용/게임 정산)로 커밋 직후 갱신 -> 조회는 DB 없이 O(K)
+ * - 포인트 랭킹: 상위 capacity 명만 추적, 추적 밖 회원이 올라올 수 있는 상황이면 DB에서 다시 적재
+ * - 오늘/이번 주 순수익 랭킹: 상위 capacity 명만 추적 (기간이 바뀌면 비우고 새로 시작)
+ *   다른 인스턴스에서 정산된 게임은 이벤트가 오지 않으므로 주기적으로 DB에서 다시 적재
+ * - 시작 시 요청을 받기 전에 DB에서 적재
+ */
+@Slf4j
+@Service
+public class LeaderboardService implements SmartInitializingSingleton {
+
+    // current_points 인덱스를 역순으로 읽고 상위 capacity 행에서 멈춤
+    private static final String TOP_POINTS_SQL =
+            "SELECT member_id, nickname, current_points FROM member "
+                    + "ORDER BY current_points DESC, member_id LIMIT ?";
+
+    // 이번 주 게임 내역을 회원별로 집계 (오늘 몫은 따로)
+    private static final String WINNINGS_SQL =
+            "SELECT h.member_id, m.nickname, SUM(h.payout_amount - h.bet_amount) AS weekly_net, "
+                    + "SUM(CASE WHEN h.created_at >= ? THEN h.payout_amount - h.bet_amount ELSE 0 END) AS daily_net, "
+                    + "SUM(CASE WHEN h.created_at >= ? THEN 1 ELSE 0 END) AS daily_rounds "
+                    + "FROM point_history h JOIN member m ON m.member_id = h.member_id "
+                    + "WHERE h.type = 'GAME' AND h.created_at >= ? "
+                    + "GROUP BY h.member_id, m.nickname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadingCache<Long, String> nicknames;
+    private final int maxSize;
+    private final int capacity;
+    private final int winningsCapacity;
+
+    private final Ranking points;
+    private final WindowRanking daily;
+    private final WindowRanking weekly;
+
+    // 포인트 랭킹 재적재 중에 들어온 변경 (회원 ID -> 최신 잔액), 적재가 끝나면 덮어씀
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private Map<Long, Long> changedDuringRebuild;
+
+    private final AtomicBoolean rebuildingWinnings = new AtomicBoolean();
+
+    public LeaderboardService(
+            JdbcTemplate jdbcTemplate,
+            MemberRepository memberRepository,
+            @Value("${leaderboard.max-size:100}") int maxSize,
+            @Value("${leaderboard.points.capacity:500}") int capacity,
+            @Value("${leaderboard.winnings.capacity:500}") int winningsCapacity,
+            @Value("${leaderboard.nickname-cache.max-size:100000}") long nicknameCacheSize) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxSize = maxSize;
+        this.capacity = Math.max(capacity, maxSize);
+        this.winningsCapacity = Math.max(winningsCapacity, maxSize);
+        this.points = new Ranking(this.capacity);
+        this.daily = new WindowRanking(this.winningsCapacity);
+        this.weekly = new WindowRanking(this.winningsCapacity);
+        // 닉네임은 바뀌지 않으므로 만료 없이 크기만 제한 (회원당 최초 한 번만 DB 조회)
+        this.nicknames = Caffeine.newBuilder()
+                .maximumSize(nicknameCacheSize)
+                .build(memberId -> memberRepository.findNicknameById(memberId).orElse(null));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 웹 서버와 밸런스 엔진이 시작되기 전이므로 적재 중에 들어오는 이벤트가 없음
+        try {
+            rebuildPoints();
+            rebuildWinnings(LocalDate.now());
+        } catch (RuntimeException e) {
+            // DB 문제로 서버가 뜨지 못하게 하지는 않음 (포인트 랭킹은 주기 재적재로 복구)
+            log.error("리더보드 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 상위 size 명 조회 (DB 조회 없음)
+     */
+    public LeaderboardResponse getLeaderboard(LeaderboardType type, int size) {
+        if (size < 1 || size > maxSize) {
+            throw new IllegalArgumentException("조회 인원은 1 ~ " + maxSize + " 사이여야 합니다.");
+        }
+
+        LocalDate today = LocalDate.now();
+        return switch (type) {
+            case POINTS -> {
+                synchronized (points) {
+                    if (!points.isExact(size)) {
+                        // 일단 현재 값으로 응답하고 백그라운드에서 재적재
+                        requestPointsRebuild();
+                    }
+                    yield new LeaderboardResponse(type, null, points.top(size));
+                }
+            }
+            case DAILY_WINNINGS -> windowTop(daily, type, today, size);
+            case WEEKLY_WINNINGS -> windowTop(weekly, type, weekStart(today), size);
+        };
+    }
+
+    // 일단 현재 값으로 응답하고, 추적 밖 회원이 올라왔을 수 있으면 백그라운드에서 재적재
+    private LeaderboardResponse windowTop(WindowRanking window, LeaderboardType type, LocalDate start, int size) {
+        LeaderboardResponse response = window.top(type, start, size);
+        if (!window.isExact(size)) {
+            requestWinningsRebuild();
+        }
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(PointBalanceChangedEvent event) {
+        long memberId = event.getMemberId();
+        boolean game = event.getType() == PointType.GAME;
+
+        boolean acceptsPoints;
+        synchronized (points) {
+            acceptsPoints = points.accepts(memberId, event.getBalance());
+        }
+
+        // 랭킹에 새로 들어가는 경우에만 닉네임이 필요 (캐시에 없으면 DB 한 번)
+        String nickname = game || acceptsPoints ? nicknames.get(memberId) : null;
+
+        if (acceptsPoints) {
+            synchronized (points) {
+                points.set(memberId, nickname, event.getBalance());
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(memberId, event.getBalance());
+                }
+                // 잔액이 줄어든 경우에만 추적 밖 회원에게 순위가 밀렸을 수 있음
+                if (event.getDelta() < 0 && !points.isExact(maxSize)) {
+                    requestPointsRebuild();
+                }
+            }
+        } else if (rebuilding.get()) {
+            synchronized (points) {
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(memberId, event.getBalance());
+                }
+            }
+        }
+
+        if (game) {
+            // 순수익 = 지급 - 베팅 (테이블 게임은 베팅을 먼저 차감해서 잔액 변동량과 다름)
+            long net = event.getPayoutAmount() - event.getBetAmount();
+            LocalDate today = LocalDate.now();
+            daily.add(today, memberId, nickname, net);
+            weekly.add(weekStart(today), memberId, nickname, net);
+        }
+    }
+
+    /**
+     * 포인트 랭킹 주기 재적재
+     * 같은 회원의 이벤트가 다른 스레드에서 순서가 바뀌어 반영된 경우의 오차를 정리
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.points.rebuild-interval-ms:300000}",
+            initialDelayString = "${leaderboard.points.rebuild-interval-ms:300000}")
+    public void refreshPoints() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuildPointsGuarded();
+        }
+    }
+
+    private void requestPointsRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("leaderboard-rebuild").start(this::rebuildPointsGuarded);
+        }
+    }
+
+    private void rebuildPointsGuarded() {
+        try {
+            rebuildPoints();
+        } catch (RuntimeException e) {
+            log.error("포인트 리더보드 재적재 실패", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuildPoints() {
+        synchronized (points) {
+            changedDuringRebuild = new HashMap<>();
+        }
+
+        List<Ranking.Entry> rows;
+        try {
+            rows = jdbcTemplate.query(TOP_POINTS_SQL, (rs, rowNum) -> new Ranking.Entry(
+                    rs.getLong("member_id"), rs.getString("nickname"), rs.getLong("current_points")), capacity);
+        } catch (RuntimeException e) {
+            synchronized (points) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+        rows.forEach(row -> nicknames.put(row.memberId(), row.nickname()));
+
+        // 조회하는 동안 바뀐 회원의 닉네임은 락 밖에서 미리 확보
+        List<Long> changed;
+        synchronized (points) {
+            changed = List.copyOf(changedDuringRebuild.keySet());
+        }
+        nicknames.getAll(changed);
+
+        synchronized (points) {
+            points.reset(rows, rows.size() == capacity);
+            // 조회하는 동안 커밋된 변경을 다시 반영 (조회 결과보다 최신)
+            changedDuringRebuild.forEach((memberId, balance) ->
+                    points.set(memberId, nicknames.getIfPresent(memberId), balance));
+            changedDuringRebuild = null;
+        }
+        log.info("포인트 리더보드 적재: {}명", rows.size());
+    }
+
+    /**
+     * 순수익 랭킹 주기 재적재
+     * 다른 인스턴스에서 정산된 게임과 추적 밖 회원의 순위 변화를 반영
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.winnings.rebuild-interval-ms:60000}",
+            initialDelayString = "${leaderboard.winnings.rebuild-interval-ms:60000}")
+    public void refreshWinnings() {
+        if (rebuildingWinnings.compareAndSet(false, true)) {
+            rebuildWinningsGuarded();
+        }
+    }
+
+    private void requestWinningsRebuild() {
+        if (rebuildingWinnings.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("leaderboard-winnings-rebuild").start(this::rebuildWinningsGuarded);
+        }
+    }
+
+    private void rebuildWinningsGuarded() {
+        try {
+            rebuildWinnings(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("순수익 리더보드 재적재 실패", e);
+        } finally {
+            rebuildingWinnings.set(false);
+        }
+    }
+
+    // 회원별 합계를 한 행씩 읽으면서 상위 capacity 명만 남김 (메모리는 capacity 만큼)
+    private void rebuildWinnings(LocalDate today) {
+        LocalDate weekStart = weekStart(today);
+        Timestamp dayFrom = Timestamp.valueOf(today.atStartOfDay());
+        Timestamp weekFrom = Timestamp.valueOf(weekStart.atStartOfDay());
+
+        Ranking dailyRanking = new Ranking(winningsCapacity);
+        Ranking weeklyRanking = new Ranking(winningsCapacity);
+
+        daily.beginRebuild();
+        weekly.beginRebuild();
+        try {
+            jdbcTemplate.query(WINNINGS_SQL, rs -> {
+                long memberId = rs.getLong("member_id");
+                String nickname = rs.getString("nickname");
+                nicknames.put(memberId, nickname);
+
+                weeklyRanking.set(memberId, nickname, rs.getLong("weekly_net"));
+                if (rs.getLong("daily_rounds") > 0) {
+                    dailyRanking.set(memberId, nickname, rs.getLong("daily_net"));
+                }
+            }, dayFrom, dayFrom, weekFrom);
+        } catch (RuntimeException e) {
+            daily.abortRebuild();
+            weekly.abortRebuild();
+            throw e;
+        }
+
+        daily.replace(today, dailyRanking);
+        weekly.replace(weekStart, weeklyRanking);
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    // 기간(시작일) 하나에 대한 순수익 랭킹 (다른 기간의 이벤트가 오면 비우고 새로 시작)
+    private static class WindowRanking {
+
+        private final int capacity;
+        private LocalDate windowStart;
+        private Ranking ranking;
+
+        // 재적재 중에 들어온 정산 (회원 ID -> 순수익 합계), 적재 결과에 다시 더함
+        // 조회 직전에 커밋된 정산의 이벤트가 조회 시작 뒤에 도착하면 두 번 더해질 수 있음 -> 다음 재적재에서 바로잡힘
+        private Map<Long, Ranking.Entry> changedDuringRebuild;
+
+        WindowRanking(int capacity) {
+            this.capacity = capacity;
+            this.ranking = new Ranking(capacity);
+        }
+
+        synchronized void add(LocalDate start, long memberId, String nickname, long delta) {
+            if (windowStart != null && start.isBefore(windowStart)) {
+                return; // 기간이 바뀌기 직전의 정산이 늦게 도착 -> 이미 끝난 기간
+            }
+            roll(start);
+            ranking.add(memberId, nickname, delta);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.merge(memberId, new Ranking.Entry(memberId, nickname, delta),
+                        (previous, added) -> new Ranking.Entry(memberId, nickname, previous.score() + added.score()));
+            }
+        }
+
+        synchronized LeaderboardResponse top(LeaderboardType type, LocalDate start, int size) {
+            roll(start);
+            return new LeaderboardResponse(type, start, ranking.top(size));
+        }
+
+        synchronized boolean isExact(int size) {
+            return ranking.isExact(size);
+        }
+
+        synchronized void beginRebuild() {
+            changedDuringRebuild = new HashMap<>();
+        }
+
+        synchronized void abortRebuild() {
+            changedDuringRebuild = null;
+        }
+
+        synchronized void replace(LocalDate start, Ranking loaded) {
+            Map<Long, Ranking.Entry> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            if (windowStart != null && start.isBefore(windowStart)) {
+                return; // 적재하는 동안 기간이 바뀜 -> 새 기간은 이벤트로 쌓는 중
+            }
+
+            // 같은 기간이면 적재 중에 들어온 정산을 다시 더함 (기간이 바뀌었으면 모두 새 기간 몫)
+            if (changed != null && start.equals(windowStart)) {
+                changed.values().forEach(entry -> loaded.add(entry.memberId(), entry.nickname(), entry.score()));
+            }
+            windowStart = start;
+            ranking = loaded;
+        }
+
+        private void roll(LocalDate start) {
+            if (windowStart == null || start.isAfter(windowStart)) {
+                windowStart = start;
+                ranking = new Ranking(capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.oowee.server.domain.leaderboard.service;
+
+import com.oowee.server.domain.leaderboard.dto.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 점수 내림차순 랭킹 (동기화는 사용하는 쪽에서)
+ * - 회원별 현재 점수 맵 + 정렬 트리: 갱신 O(log N), 상위 K 조회 O(K)
+ * - capacity 를 넘으면 꼴찌부터 버리고, 버려진 회원 점수의 상한(floor)을 기억
+ *   -> 추적 중인 회원이 floor 아래로 내려가면 순위가 정확하지 않을 수 있으므로 DB에서 다시 적재해야 함
+ * - 점수에 더하는 랭킹(add)은 추적 밖 회원의 기존 점수를 모르므로, 그 회원이 floor 위로 올라왔을 수 있으면
+ *   다시 적재할 때까지 정확하지 않은 것으로 봄
+ */
+class Ranking {
+
+    record Entry(long memberId, String nickname, long score) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::score).reversed()
+            .thenComparingLong(Entry::memberId);
+
+    private final TreeSet<Entry> sorted = new TreeSet<>(ORDER);
+    private final Map<Long, Entry> byMember = new HashMap<>();
+    private final int capacity;
+
+    // 추적하지 않는 회원 점수의 상한 (아무도 버리지 않았으면 MIN_VALUE)
+    private long floor = Long.MIN_VALUE;
+
+    // 점수를 모르는 추적 밖 회원이 floor 위로 올라왔을 수 있음 (다시 적재하면 해소)
+    private boolean untrackedRaised;
+
+    Ranking(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // 이 점수로 바뀌었을 때 랭킹에 들어가는지 (추적 중이거나 floor 보다 높음)
+    boolean accepts(long memberId, long score) {
+        return byMember.containsKey(memberId) || score > floor;
+    }
+
+    // 점수를 새 값으로 (포인트 랭킹, nickname 이 null 이면 기존 값 유지)
+    void set(long memberId, String nickname, long score) {
+        Entry previous = byMember.remove(memberId);
+        if (previous != null) {
+            sorted.remove(previous);
+            if (nickname == null) {
+                nickname = previous.nickname();
+            }
+        } else if (score <= floor) {
+            // 추적하지 않는 회원이 여전히 floor 이하 -> 상위권과 무관
+            return;
+        }
+
+        Entry entry = new Entry(memberId, nickname, score);
+        sorted.add(entry);
+        byMember.put(memberId, entry);
+        trim();
+    }
+
+    // 점수에 더하기 (기간 순수익 랭킹)
+    void add(long memberId, String nickname, long delta) {
+        Entry previous = byMember.remove(memberId);
+        long score = delta;
+        if (previous != null) {
+            sorted.remove(previous);
+            score += previous.score();
+        } else if (floor != Long.MIN_VALUE) {
+            // 버려진 회원(floor 이하)이거나 처음 온 회원(0) -> 새 점수가 floor 를 넘을 수 없을 때만 무시해도 됨
+            if (delta > Math.min(0, floor)) {
+                untrackedRaised = true;
+            }
+            return;
+        }
+
+        Entry entry = new Entry(memberId, nickname, score);
+        sorted.add(entry);
+        byMember.put(memberId, entry);
+        trim();
+    }
+
+    // DB에서 다시 적재할 때 사용 (truncated 면 rows 밖에 회원이 더 있음 -> 최저 점수가 floor)
+    void reset(List<Entry> rows, boolean truncated) {
+        sorted.clear();
+        byMember.clear();
+        floor = Long.MIN_VALUE;
+        untrackedRaised = false;
+
+        for (Entry entry : rows) {
+            sorted.add(entry);
+            byMember.put(entry.memberId(), entry);
+        }
+        trim();
+        if (truncated && !sorted.isEmpty()) {
+            floor = Math.max(floor, sorted.last().score());
+        }
+    }
+
+    // 상위 k 명이 확실한지 (k 번째 점수가 추적하지 않는 회원의 상한 이상)
+    boolean isExact(int k) {
+        if (untrackedRaised) {
+            return false;
+        }
+        if (floor == Long.MIN_VALUE) {
+            return true;
+        }
+        if (sorted.size() < k) {
+            return false;
+        }
+
+        Iterator<Entry> iterator = sorted.iterator();
+        Entry kth = null;
+        for (int i = 0; i < k; i++) {
+            kth = iterator.next();
+        }
+        return kth.score() >= floor;
+    }
+
+    List<LeaderboardEntry> top(int k) {
+        List<LeaderboardEntry> result = new ArrayList<>(Math.min(k, sorted.size()));
+        int rank = 0;
+        for (Entry entry : sorted) {
+            if (rank == k) {
+                break;
+            }
+            result.add(new LeaderboardEntry(++rank, entry.nickname(), entry.score()));
+        }
+        return result;
+    }
+
+    private void trim() {
+        while (sorted.size() > capacity) {
+            Entry last = sorted.pollLast();
+            byMember.remove(last.memberId());
+            floor = Math.max(floor, last.score());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.oowee.server.domain.member.cache;
+
+/**
+ * 회원 캐시 무효화 전파
+ * - 여러 인스턴스로 띄울 때 Redis pub/sub, 메시지 큐 등으로 구현해서 빈으로 등록
+ * - 다른 인스턴스에서 받은 무효화는 MemberProfileCache.evictLocal 로 반영
+ * - 등록된 구현이 없으면 단일 인스턴스로 보고 로컬 캐시만 무효화
+ */
+public interface MemberCacheBroadcaster {
+
+    void broadcastEviction(String email);
+}
@@ -0,0 +1,66 @@
+package com.oowee.server.domain.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oowee.server.domain.member.dto.MemberView;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 내 정보(/api/members/me) 조회 캐시
+ * - 크기/TTL 제한이 있는 읽기 캐시
+ * - 잔액이 바뀌면 커밋 직후 같은 스레드에서 바로 무효화 (응답이 나가기 전에 반영)
+ * - 로딩 중인 키를 무효화하면 로딩이 끝난 뒤 제거되므로, 커밋 전에 읽은 값이 남지 않음
+ */
+@Component
+public class MemberProfileCache {
+
+    private final Cache<String, MemberView> cache;
+    private final MemberCacheBroadcaster broadcaster;
+
+    public MemberProfileCache(
+            ObjectProvider<MemberCacheBroadcaster> broadcaster,
+            MeterRegistry meterRegistry,
+            @Value("${member.cache.max-size:10000}") long maxSize,
+            @Value("${member.cache.ttl-seconds:30}") long ttlSeconds) {
+
+        // 전파 구현이 없으면 로컬 전용 (단일 인스턴스)
+        this.broadcaster = broadcaster.getIfAvailable(() -> email -> {
+        });
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member.profile");
+    }
+
+    public MemberView get(String email, Function<String, MemberView> loader) {
+        return cache.get(email, loader);
+    }
+
+    // 로컬 캐시 제거 + 다른 인스턴스에 전파
+    public void evict(String email) {
+        evictLocal(email);
+        broadcaster.broadcastEviction(email);
+    }
+
+    // 다른 인스턴스에서 전파받은 무효화 처리용
+    public void evictLocal(String email) {
+        cache.invalidate(email);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(PointBalanceChangedEvent event) {
+        evict(event.getEmail());
+    }
+}
@@ -0,0 +1,48 @@
+package com.oowee.server.domain.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이미 사용 중인 것으로 확인된 이메일/닉네임 (회원가입 중복 요청을 비밀번호 해시 전에 거절하기 위한 용도)
+ * - 가입 성공 또는 unique 제약 위반 시 기록
+ * - 여기에 없다고 사용 가능한 것은 아님 (최종 판단은 항상 DB unique 제약)
+ */
+@Component
+public class TakenIdentifierCache {
+
+    private static final String EMAIL = "email:";
+    private static final String NICKNAME = "nickname:";
+
+    private final Cache<String, Boolean> taken;
+
+    public TakenIdentifierCache(
+            @Value("${member.signup.taken-cache.max-size:100000}") long maxSize,
+            @Value("${member.signup.taken-cache.ttl-minutes:60}") long ttlMinutes) {
+
+        this.taken = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public boolean isEmailTaken(String email) {
+        return taken.getIfPresent(EMAIL + email) != null;
+    }
+
+    public boolean isNicknameTaken(String nickname) {
+        return taken.getIfPresent(NICKNAME + nickname) != null;
+    }
+
+    public void markEmailTaken(String email) {
+        taken.put(EMAIL + email, Boolean.TRUE);
+    }
+
+    public void markNicknameTaken(String nickname) {
+        taken.put(NICKNAME + nickname, Boolean.TRUE);
+    }
+}
@@ -1,8 +1,8 @@
 package com.oowee.server.domain.member.controller;
 
+import com.oowee.server.domain.member.dto.MemberView;
 import com.oowee.server.domain.member.dto.SignInRequest;
 import com.oowee.server.domain.member.dto.SignUpRequest;
-import com.oowee.server.domain.member.entity.Member;
 import com.oowee.server.domain.member.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -45,7 +45,7 @@ public class MemberController {
             throw new IllegalArgumentException("인증 정보가 유효하지 않습니다.");
         }
 
-        Member member = memberService.getMember(principal.getName());
+        MemberView member = memberService.getMember(principal.getName());
 
         return ResponseEntity.ok(Map.of(
                 "email", member.getEmail(),
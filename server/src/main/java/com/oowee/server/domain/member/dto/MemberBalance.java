@@ -0,0 +1,11 @@
+package com.oowee.server.domain.member.dto;
+
+/**
+ * 회원 ID와 잔액만 읽는 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public interface MemberBalance {
+
+    Long getId();
+
+    Long getCurrentPoints();
+}
@@ -0,0 +1,18 @@
+package com.oowee.server.domain.member.dto;
+
+import com.oowee.server.domain.member.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 내 정보 조회용 회원 정보 (캐시에 저장되는 값)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberView {
+
+    private final String email;
+    private final String nickname;
+    private final Long currentPoints;
+    private final Role role;
+}
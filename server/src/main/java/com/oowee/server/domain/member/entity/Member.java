@@ -12,21 +12,31 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class) // 생성일, 수정일 자동 기록
-@Table(name = "member")
+@Table(name = "member", uniqueConstraints = {
+        @UniqueConstraint(name = Member.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = Member.NICKNAME_UNIQUE_CONSTRAINT, columnNames = "nickname")
+}, indexes = {
+        // 리더보드 적재 시 잔액 상위 K명만 인덱스 순서로 읽기 위한 인덱스
+        @Index(name = "idx_member_current_points", columnList = "current_points")
+})
 public class Member {
 
+    // 회원가입 시 어느 값이 중복인지 구분하기 위해 제약 이름을 고정
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_member_email";
+    public static final String NICKNAME_UNIQUE_CONSTRAINT = "uk_member_nickname";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false, unique = true, length = 6)
+    @Column(nullable = false, length = 6)
     private String nickname;
 
     @Enumerated(EnumType.STRING)
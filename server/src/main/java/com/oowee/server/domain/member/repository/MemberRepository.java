@@ -1,22 +1,72 @@
 package com.oowee.server.domain.member.repository;
 
+import com.oowee.server.domain.member.dto.MemberBalance;
+import com.oowee.server.domain.member.dto.MemberView;
 import com.oowee.server.domain.member.entity.Member;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    // 쓰기 트랜잭션 밖에서 부르면 읽기 전용 트랜잭션 (읽기 복제본을 설정한 경우 복제본에서 조회)
+    @Transactional(readOnly = true)
     Optional<Member> findByEmail(String email);
 
+    boolean existsByEmail(String email);
+
     boolean existsByNickname(String nickname);
 
+    // 내 정보 조회용 (엔티티 대신 DTO로 바로 조회, 읽기 전용 트랜잭션)
+    @Transactional(readOnly = true)
+    @Query("select new com.oowee.server.domain.member.dto.MemberView(m.email, m.nickname, m.currentPoints, m.role) " +
+            "from Member m where m.email = :email")
+    Optional<MemberView> findViewByEmail(@Param("email") String email);
+
+    // 락 없이 ID만 조회 (밸런스 엔진 모드에서 사용)
+    @Query("select m.id from Member m where m.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    // 리더보드에 새로 들어가는 회원의 닉네임 조회
+    @Query("select m.nickname from Member m where m.id = :id")
+    Optional<String> findNicknameById(@Param("id") Long id);
+
     // 동시성 제어를 위한 락 걸린 조회 메서드
     @Lock(LockModeType.PESSIMISTIC_WRITE) // 다른 트랜잭션이 읽지도, 쓰지도 못하게 막음
     @Query("select m from Member m where m.email = :email")
     Optional<Member> findByEmailForUpdate(@Param("email") String email);
+
+    // 잔액이 required 이상일 때만 delta 만큼 변경 (조건부 UPDATE 한 번, SELECT FOR UPDATE 없음)
+    // 반환값이 0이면 회원이 없거나 잔액 부족
+    @Modifying(flushAutomatically = true)
+    @Query("update Member m set m.currentPoints = m.currentPoints + :delta, m.updatedAt = :now " +
+            "where m.email = :email and m.currentPoints >= :required")
+    int addPointsIfEnough(@Param("email") String email,
+                          @Param("delta") Long delta,
+                          @Param("required") Long required,
+                          @Param("now") LocalDateTime now);
+
+    // 비밀번호 해시 교체 (그 사이 비밀번호가 바뀌었으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :oldPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
+    @Query("select m.id as id, m.currentPoints as currentPoints from Member m where m.email = :email")
+    Optional<MemberBalance> findBalanceByEmail(@Param("email") String email);
+
+    // 여러 회원 잔액을 한 번에 조회 (일괄 정산 후 잔액 확인용)
+    @Query("select m.id as id, m.currentPoints as currentPoints from Member m where m.id in :ids")
+    List<MemberBalance> findBalancesByIds(@Param("ids") Collection<Long> ids);
 }
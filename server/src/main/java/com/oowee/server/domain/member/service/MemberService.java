@@ -1,39 +1,47 @@
 package com.oowee.server.domain.member.service;
 
+import com.oowee.server.domain.member.cache.MemberProfileCache;
+import com.oowee.server.domain.member.cache.TakenIdentifierCache;
+import com.oowee.server.domain.member.dto.MemberView;
 import com.oowee.server.domain.member.dto.SignInRequest;
 import com.oowee.server.domain.member.dto.SignUpRequest;
 import com.oowee.server.domain.member.entity.Member;
 import com.oowee.server.domain.member.entity.Role;
 import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.global.datasource.ReadRouting;
+import com.oowee.server.global.exception.DuplicateFieldException;
 import com.oowee.server.global.jwt.JwtTokenProvider;
+import com.oowee.server.global.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MemberProfileCache memberProfileCache;
+    private final TakenIdentifierCache takenIdentifierCache;
 
     // 회원가입
-    @Transactional
+    // 중복 검사 쿼리 없이 바로 INSERT 하고, 중복은 DB unique 제약 위반으로 판단
     public Long signUp(SignUpRequest request) {
-        // 이메일 중복 검사
-        if (memberRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
+        // 최근에 사용 중으로 확인된 이메일/닉네임이면 비밀번호 해시 없이 바로 거절
+        if (takenIdentifierCache.isEmailTaken(request.getEmail())) {
+            throw duplicateEmail();
         }
-
-        // 닉네임 중복 검사
-        if (memberRepository.existsByNickname(request.getNickname())) {
-            throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
+        if (takenIdentifierCache.isNicknameTaken(request.getNickname())) {
+            throw duplicateNickname();
         }
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 비밀번호 암호화 (해시 전용 스레드 풀, 트랜잭션 밖이라 DB 커넥션을 잡지 않음)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
 
         // 저장
         Member member = Member.builder()
@@ -43,30 +51,95 @@ public class MemberService {
                 .role(Role.USER)
                 .build();
 
-        return memberRepository.save(member).getId();
+        Long memberId;
+        try {
+            memberId = memberRepository.save(member).getId();
+        } catch (DataIntegrityViolationException e) {
+            throw resolveDuplicate(e, request);
+        }
+
+        takenIdentifierCache.markEmailTaken(request.getEmail());
+        takenIdentifierCache.markNicknameTaken(request.getNickname());
+        return memberId;
+    }
+
+    // 어느 unique 제약에 걸렸는지 판단
+    // 제약 이름을 알 수 없거나 둘 다 아닌 이름이면(DB/드라이버마다 다르게 올 수 있음) 조회로 확인
+    private RuntimeException resolveDuplicate(DataIntegrityViolationException e, SignUpRequest request) {
+        String constraint = constraintName(e);
+        boolean known = constraint != null
+                && (constraint.contains(Member.EMAIL_UNIQUE_CONSTRAINT)
+                || constraint.contains(Member.NICKNAME_UNIQUE_CONSTRAINT));
+
+        boolean emailTaken = known
+                ? constraint.contains(Member.EMAIL_UNIQUE_CONSTRAINT)
+                : memberRepository.existsByEmail(request.getEmail());
+        if (emailTaken) {
+            takenIdentifierCache.markEmailTaken(request.getEmail());
+            return duplicateEmail();
+        }
+
+        boolean nicknameTaken = known
+                ? constraint.contains(Member.NICKNAME_UNIQUE_CONSTRAINT)
+                : memberRepository.existsByNickname(request.getNickname());
+        if (nicknameTaken) {
+            takenIdentifierCache.markNicknameTaken(request.getNickname());
+            return duplicateNickname();
+        }
+
+        return e;
+    }
+
+    private static String constraintName(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase();
+            }
+        }
+        return null;
+    }
+
+    private static DuplicateFieldException duplicateEmail() {
+        return new DuplicateFieldException("email", "이미 존재하는 이메일입니다.");
+    }
+
+    private static DuplicateFieldException duplicateNickname() {
+        return new DuplicateFieldException("nickname", "이미 존재하는 닉네임입니다.");
     }
 
     // 로그인
-    @Transactional(readOnly = true)
+    // 비밀번호 비교는 해시 전용 스레드 풀에서 (트랜잭션 없이, 조회 후 커넥션 반납)
     public String signIn(SignInRequest request) {
         String errorMessage = "이메일 또는 비밀번호가 일치하지 않습니다.";
 
-        // 이메일 확인
+        // 이메일 확인 (가입 직후라 읽기 복제본에 아직 없으면 primary 에서 한 번 더)
         Member member = memberRepository.findByEmail(request.getEmail())
+                .or(() -> ReadRouting.isReplicaEnabled()
+                        ? ReadRouting.onPrimary(() -> memberRepository.findByEmail(request.getEmail()))
+                        : Optional.empty())
                 .orElseThrow(() -> new IllegalArgumentException(errorMessage));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), member.getPassword())) {
             throw new IllegalArgumentException(errorMessage);
         }
 
+        // 해시 cost 가 바뀌었으면 새 cost 로 다시 저장 (비동기)
+        if (passwordHasher.needsRehash(member.getPassword())) {
+            Long memberId = member.getId();
+            String oldPassword = member.getPassword();
+            passwordHasher.rehashAsync(request.getPassword(),
+                    newPassword -> memberRepository.updatePassword(memberId, oldPassword, newPassword));
+        }
+
         // JWT 토큰 반환
         return jwtTokenProvider.createToken(member.getEmail());
     }
 
-    @Transactional(readOnly = true)
-    public Member getMember(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+    // 내 정보 조회 (캐시 우선, 없으면 DB에서 읽어 캐시에 저장)
+    // 캐시에 넣을 값은 primary 에서 읽음 (복제본의 지연된 잔액이 무효화 직후 다시 캐시되어 TTL 동안 남지 않게)
+    public MemberView getMember(String email) {
+        return memberProfileCache.get(email, key -> ReadRouting.onPrimary(() -> memberRepository.findViewByEmail(key))
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다.")));
     }
 }
@@ -0,0 +1,156 @@
+package com.oowee.server.domain.payment.client;
+
+import com.oowee.server.domain.payment.dto.PortOnePaymentResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트원 API 전용 HTTP 클라이언트
+ * - JDK HttpClient 하나를 재사용해서 keep-alive 커넥션을 풀링
+ * - 연결/응답 타임아웃으로 호출마다 최대 대기 시간 제한
+ * - 동시 호출 수 제한(벌크헤드): 포트원이 느려져도 요청 스레드가 무한정 쌓이지 않음
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 호출 없이 바로 실패
+ */
+@Slf4j
+@Component
+public class PortOneClient {
+
+    private final RestClient restClient;
+    private final String apiSecret;
+    private final Semaphore bulkhead;
+    private final long acquireTimeoutMillis;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Timer successTimer;
+    private final Timer clientErrorTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedByCircuit;
+    private final Counter rejectedByBulkhead;
+
+    public PortOneClient(
+            @Value("${portone.base-url:https://api.portone.io}") String baseUrl,
+            @Value("${portone.api-secret}") String apiSecret,
+            @Value("${portone.client.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${portone.client.read-timeout-ms:3000}") long readTimeoutMillis,
+            @Value("${portone.client.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${portone.client.acquire-timeout-ms:100}") long acquireTimeoutMillis,
+            @Value("${portone.client.failure-threshold:5}") int failureThreshold,
+            @Value("${portone.client.open-duration-ms:10000}") long openDurationMillis,
+            MeterRegistry meterRegistry) {
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.apiSecret = apiSecret;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMillis);
+
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.clientErrorTimer = requestTimer(meterRegistry, "client_error");
+        this.failureTimer = requestTimer(meterRegistry, "failure");
+        this.rejectedByCircuit = Counter.builder("portone.rejected")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.rejectedByBulkhead = Counter.builder("portone.rejected")
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+        Gauge.builder("portone.circuit.open", circuitBreaker,
+                        breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 단건 조회
+     * 4xx 응답(존재하지 않는 결제 등)은 HttpClientErrorException 그대로 전달
+     */
+    public PortOnePaymentResponse getPayment(String paymentId) {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedByCircuit.increment();
+            throw new PortOneUnavailableException("포트원 서버 장애로 잠시 결제 검증을 할 수 없습니다.");
+        }
+
+        if (!acquireBulkhead()) {
+            circuitBreaker.onIgnored();
+            rejectedByBulkhead.increment();
+            throw new PortOneUnavailableException("결제 검증 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long start = System.nanoTime();
+        // 아래 catch 에 걸리지 않는 예외(Error 등)로 끝나도 HALF_OPEN 시험 호출이 풀리도록 finally 에서 실패로 기록
+        boolean recorded = false;
+        try {
+            PortOnePaymentResponse response = restClient.get()
+                    .uri("/payments/{paymentId}", paymentId)
+                    .header("Authorization", "PortOne " + apiSecret)
+                    .retrieve()
+                    .body(PortOnePaymentResponse.class);
+
+            circuitBreaker.onSuccess();
+            recorded = true;
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return response;
+        } catch (HttpClientErrorException e) {
+            // 요청 자체의 문제 -> 포트원 장애로 보지 않음
+            circuitBreaker.onIgnored();
+            recorded = true;
+            clientErrorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } catch (RestClientException e) {
+            // 타임아웃, 연결 실패, 5xx
+            circuitBreaker.onFailure();
+            recorded = true;
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new PortOneUnavailableException("포트원 응답 실패: " + e.getMessage(), e);
+        } finally {
+            if (!recorded) {
+                circuitBreaker.onFailure();
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("portone.request")
+                .description("포트원 API 호출 소요 시간")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.oowee.server.domain.payment.client;
+
+/**
+ * 포트원 호출이 불가능하거나 실패한 경우 (타임아웃, 5xx, 서킷 OPEN, 동시 호출 초과)
+ */
+public class PortOneUnavailableException extends RuntimeException {
+
+    public PortOneUnavailableException(String message) {
+        super(message);
+    }
+
+    public PortOneUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,15 +1,15 @@
 package com.oowee.server.domain.payment.controller;
 
 import com.oowee.server.domain.payment.dto.PaymentRequest;
+import com.oowee.server.domain.payment.dto.PaymentStatusResponse;
+import com.oowee.server.domain.payment.entity.PaymentStatus;
 import com.oowee.server.domain.payment.service.PaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.security.Principal;
 import java.util.Map;
 
@@ -24,14 +24,33 @@ public class PaymentController {
     @PostMapping("/complete")
     public ResponseEntity<Map<String, Object>> completePayment(
             @RequestBody PaymentRequest request,
+            @RequestParam(defaultValue = "false") boolean async,
             Principal principal) {
 
         if (principal == null) {
             throw new IllegalArgumentException("로그인이 필요합니다.");
         }
 
-        log.info("결제 검증 요청: email={}, paymentId={}, orderId={}",
-                principal.getName(), request.getPaymentId(), request.getOrderId());
+        log.info("결제 검증 요청: email={}, paymentId={}, orderId={}, async={}",
+                principal.getName(), request.getPaymentId(), request.getOrderId(), async);
+
+        // 비동기: 접수만 하고 202 반환 -> 클라이언트는 상태 조회 API로 폴링
+        if (async) {
+            paymentService.verifyPaymentAsync(
+                    principal.getName(),
+                    request.getPaymentId(),
+                    request.getOrderId(),
+                    request.getAmount()
+            );
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/payments/" + request.getPaymentId()))
+                    .body(Map.of(
+                            "message", "결제 검증을 시작했습니다.",
+                            "paymentId", request.getPaymentId(),
+                            "status", PaymentStatus.READY
+                    ));
+        }
 
         // 검증 서비스 호출 -> 성공 시 충전된 포인트 잔액 반환
         Long currentPoints = paymentService.verifyPayment(
@@ -46,4 +65,17 @@ public class PaymentController {
                 "currentPoints", currentPoints
         ));
     }
+
+    // 결제 처리 상태 조회 (비동기 검증 폴링용)
+    @GetMapping("/{paymentId}")
+    public ResponseEntity<PaymentStatusResponse> getPaymentStatus(
+            @PathVariable String paymentId,
+            Principal principal) {
+
+        if (principal == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+
+        return ResponseEntity.ok(paymentService.getPaymentStatus(principal.getName(), paymentId));
+    }
 }
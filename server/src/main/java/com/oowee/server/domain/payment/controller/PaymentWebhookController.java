@@ -0,0 +1,71 @@
+package com.oowee.server.domain.payment.controller;
+
+import com.oowee.server.domain.payment.dto.PortOneWebhookEvent;
+import com.oowee.server.domain.payment.webhook.PaymentWebhookProcessor;
+import com.oowee.server.domain.payment.webhook.PortOneWebhookVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 포트원 웹훅 수신
+ * 서명 확인 후 결제 ID를 inbox 테이블에 저장하고 200 응답 (실제 확정은 PaymentWebhookProcessor 가 처리)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/payments/webhook")
+@RequiredArgsConstructor
+public class PaymentWebhookController {
+
+    private final PortOneWebhookVerifier verifier;
+    private final PaymentWebhookProcessor processor;
+    private final JsonMapper jsonMapper;
+
+    @Value("${portone.store-id}")
+    private String storeId;
+
+    @PostMapping
+    public ResponseEntity<Void> receive(
+            @RequestHeader(value = "webhook-id", required = false) String webhookId,
+            @RequestHeader(value = "webhook-timestamp", required = false) String webhookTimestamp,
+            @RequestHeader(value = "webhook-signature", required = false) String webhookSignature,
+            @RequestBody String body) {
+
+        // 1. 서명 검증 (본문을 파싱하기 전에 원문 그대로 검증)
+        if (!verifier.verify(webhookId, webhookTimestamp, webhookSignature, body)) {
+            log.warn("웹훅 서명 검증 실패: webhookId={}", webhookId);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        PortOneWebhookEvent event;
+        try {
+            event = jsonMapper.readValue(body, PortOneWebhookEvent.class);
+        } catch (JacksonException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 2. 우리 상점의 결제 이벤트만 처리 (그 외 이벤트는 200으로 무시해야 재전송되지 않음)
+        if (!event.isTransactionEvent()
+                || (event.getData().getStoreId() != null && !event.getData().getStoreId().equals(storeId))) {
+            return ResponseEntity.ok().build();
+        }
+
+        // 3. inbox 에 저장 (종료 중이면 503 -> 포트원이 나중에 재전송, 저장 실패는 500 -> 마찬가지로 재전송)
+        if (!processor.enqueue(event.getData().getPaymentId())) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        log.info("웹훅 접수: webhookId={}, type={}, paymentId={}",
+                webhookId, event.getType(), event.getData().getPaymentId());
+        return ResponseEntity.ok().build();
+    }
+}
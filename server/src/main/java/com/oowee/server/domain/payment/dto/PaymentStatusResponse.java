@@ -0,0 +1,18 @@
+package com.oowee.server.domain.payment.dto;
+
+import com.oowee.server.domain.payment.entity.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 처리 상태 (비동기 검증 폴링용)
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentStatusResponse {
+    private String paymentId;
+    private String orderId;
+    private Long amount;
+    private PaymentStatus status;  // READY: 검증 중, PAID: 충전 완료, FAILED: 실패
+    private String failReason;
+}
@@ -0,0 +1,13 @@
+package com.oowee.server.domain.payment.dto;
+
+/**
+ * 확정되지 않은(READY) 결제 재확인에 필요한 값만 읽는 프로젝션
+ */
+public interface PendingPayment {
+
+    String getPaymentId();
+
+    Long getAmount();
+
+    String getEmail();
+}
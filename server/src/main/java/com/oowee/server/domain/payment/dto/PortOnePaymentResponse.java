@@ -15,6 +15,7 @@ public class PortOnePaymentResponse {
     private String status;    // 결제 상태 (PAID, FAILED 등)
     private Amount amount;    // 결제 금액 정보 (객체로 옴)
     private String orderName; // 주문명
+    private Customer customer; // 결제 요청 시 보낸 고객 정보 (웹훅으로만 들어온 결제의 회원 확인용)
 
     @Getter
     @NoArgsConstructor
@@ -23,4 +24,13 @@ public class PortOnePaymentResponse {
     public static class Amount {
         private Long total;   // 총 결제 금액
     }
+
+    @Getter
+    @NoArgsConstructor
+    @ToString
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Customer {
+        private String id;
+        private String email;
+    }
 }
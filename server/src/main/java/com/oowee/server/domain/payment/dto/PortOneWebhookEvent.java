@@ -0,0 +1,37 @@
+package com.oowee.server.domain.payment.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 포트원 웹훅 본문
+ * 예: {"type": "Transaction.Paid", "timestamp": "...", "data": {"paymentId": "...", "storeId": "..."}}
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PortOneWebhookEvent {
+
+    private String type;      // 이벤트 종류 (Transaction.Paid, Transaction.Cancelled 등)
+    private String timestamp;
+    private Data data;
+
+    @Getter
+    @NoArgsConstructor
+    @ToString
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Data {
+        private String paymentId;
+        private String storeId;
+        private String transactionId;
+    }
+
+    // 결제 건에 대한 이벤트인지 (결제 상태는 어차피 포트원 조회로 다시 확인)
+    public boolean isTransactionEvent() {
+        return type != null && type.startsWith("Transaction.")
+                && data != null && data.getPaymentId() != null;
+    }
+}
@@ -47,6 +47,9 @@ public class Payment {
     @Enumerated(EnumType.STRING)
     private PaymentStatus status;
 
+    // 검증 실패 사유 (FAILED 일 때만)
+    private String failReason;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -64,4 +67,10 @@ public class Payment {
     public void changeStatus(PaymentStatus status) {
         this.status = status;
     }
+
+    // 실패했던 결제를 다시 검증할 때 대기 상태로 되돌림
+    public void retry() {
+        this.status = PaymentStatus.READY;
+        this.failReason = null;
+    }
 }
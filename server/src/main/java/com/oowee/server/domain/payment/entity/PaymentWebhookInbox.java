@@ -0,0 +1,40 @@
+package com.oowee.server.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 접수한 포트원 웹훅 (확정 대기 중인 결제 ID)
+ * - 웹훅에 200 을 주기 전에 저장하므로 서버가 재시작돼도 확정이 빠지지 않음
+ * - 같은 결제 ID는 한 행으로 합치고 received_count 만 올림 (처리 중에 다시 들어온 웹훅 구분용)
+ * - 저장/조회는 PaymentWebhookProcessor 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payment_webhook_inbox",
+        indexes = @Index(name = "idx_payment_webhook_inbox_available", columnList = "available_at"))
+public class PaymentWebhookInbox {
+
+    @Id
+    @Column(name = "payment_id")
+    private String paymentId;
+
+    @Column(nullable = false)
+    private Integer receivedCount;
+
+    // 확정 실패로 다시 시도한 횟수
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후에 처리 (처리 중에는 lease 만큼, 재시도 대기 중에는 다음 시도 시각까지 미룸)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+}
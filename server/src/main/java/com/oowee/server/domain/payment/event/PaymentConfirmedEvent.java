@@ -0,0 +1,19 @@
+package com.oowee.server.domain.payment.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제가 확정되고 포인트가 충전됐을 때 발행되는 이벤트
+ * - 클라이언트 검증(/api/payments/complete)과 웹훅 확정 모두 트랜잭션 안에서 발행
+ * - 받는 쪽은 @TransactionalEventListener 로 커밋 후에 처리
+ */
+@Getter
+@RequiredArgsConstructor
+public class PaymentConfirmedEvent {
+
+    private final String email;
+    private final String paymentId;
+    private final Long amount;
+    private final Long balance;   // 충전 후 잔액
+}
@@ -1,8 +1,16 @@
 package com.oowee.server.domain.payment.repository;
 
+import com.oowee.server.domain.payment.dto.PaymentStatusResponse;
+import com.oowee.server.domain.payment.dto.PendingPayment;
 import com.oowee.server.domain.payment.entity.Payment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -11,4 +19,31 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     // 포트원 결제 ID로 찾기
     Optional<Payment> findByPaymentId(String paymentId);
+
+    // READY -> PAID 전환 (이미 처리된 결제면 0 반환, 중복 충전 방지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Payment p set p.status = com.oowee.server.domain.payment.entity.PaymentStatus.PAID, " +
+            "p.orderName = :orderName " +
+            "where p.paymentId = :paymentId and p.status = com.oowee.server.domain.payment.entity.PaymentStatus.READY")
+    int markPaid(@Param("paymentId") String paymentId, @Param("orderName") String orderName);
+
+    // READY -> FAILED 전환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Payment p set p.status = com.oowee.server.domain.payment.entity.PaymentStatus.FAILED, " +
+            "p.failReason = :reason " +
+            "where p.paymentId = :paymentId and p.status = com.oowee.server.domain.payment.entity.PaymentStatus.READY")
+    int markFailed(@Param("paymentId") String paymentId, @Param("reason") String reason);
+
+    // 결제 상태 조회 (본인 결제만)
+    @Query("select new com.oowee.server.domain.payment.dto.PaymentStatusResponse(" +
+            "p.paymentId, p.orderId, p.amount, p.status, p.failReason) " +
+            "from Payment p where p.paymentId = :paymentId and p.member.email = :email")
+    Optional<PaymentStatusResponse> findStatusByPaymentIdAndEmail(@Param("paymentId") String paymentId,
+                                                                  @Param("email") String email);
+
+    // 오래 READY 로 남은 결제 (오래된 것부터, 재확인용)
+    @Query("select p.paymentId as paymentId, p.amount as amount, m.email as email from Payment p join p.member m " +
+            "where p.status = com.oowee.server.domain.payment.entity.PaymentStatus.READY and p.createdAt < :before " +
+            "order by p.createdAt")
+    List<PendingPayment> findReadyCreatedBefore(@Param("before") LocalDateTime before, Limit limit);
 }
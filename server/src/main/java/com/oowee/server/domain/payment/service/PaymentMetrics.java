@@ -0,0 +1,45 @@
+package com.oowee.server.domain.payment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 결제 검증 결과 지표 (포트원 호출 지연시간은 PortOneClient 의 portone.request)
+ */
+@Component
+public class PaymentMetrics {
+
+    public enum Result {
+        PAID("paid"),
+        NOT_PAID("not_paid"),
+        AMOUNT_MISMATCH("amount_mismatch"),
+        PORTONE_ERROR("portone_error"),
+        PORTONE_UNAVAILABLE("portone_unavailable"),
+        ALREADY_PROCESSED("already_processed");
+
+        private final String tag;
+
+        Result(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Map<Result, Counter> counters = new EnumMap<>(Result.class);
+
+    public PaymentMetrics(MeterRegistry meterRegistry) {
+        for (Result result : Result.values()) {
+            counters.put(result, Counter.builder("payment.verification")
+                    .description("결제 검증 결과 수")
+                    .tag("result", result.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(Result result) {
+        counters.get(result).increment();
+    }
+}
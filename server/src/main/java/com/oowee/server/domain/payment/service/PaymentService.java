@@ -2,18 +2,42 @@ package com.oowee.server.domain.payment.service;
 
 import com.oowee.server.domain.member.entity.Member;
 import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.payment.client.PortOneClient;
+import com.oowee.server.domain.payment.client.PortOneUnavailableException;
+import com.oowee.server.domain.payment.dto.PaymentStatusResponse;
+import com.oowee.server.domain.payment.dto.PendingPayment;
 import com.oowee.server.domain.payment.dto.PortOnePaymentResponse;
 import com.oowee.server.domain.payment.entity.Payment;
 import com.oowee.server.domain.payment.entity.PaymentStatus;
+import com.oowee.server.domain.payment.event.PaymentConfirmedEvent;
 import com.oowee.server.domain.payment.repository.PaymentRepository;
 import com.oowee.server.domain.point.service.PointService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 결제 검증
+ * 1. 결제 접수: READY 상태로 결제 행 저장 (짧은 트랜잭션)
+ * 2. 포트원 조회: 트랜잭션 밖에서 호출 (느린 응답이 DB 커넥션을 잡지 않도록)
+ * 3. 확정: READY -> PAID 전환 + 포인트 충전 (짧은 트랜잭션)
+ * 포트원 장애 등으로 READY 에 남은 결제는 reconcileStaleReady 가 주기적으로 다시 확인
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,61 +46,241 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
     private final PointService pointService; // 포인트 충전
+    private final TransactionTemplate transactionTemplate;
+    private final PortOneClient portOneClient;
+    private final PaymentMetrics paymentMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 비동기 검증용 (가상 스레드라 포트원 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않음)
+    private final ExecutorService verificationExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    @Value("${portone.api-secret}")
-    private String apiSecret;
+    @Value("${portone.reconcile.stale-after-seconds:600}")
+    private long reconcileAfterSeconds;
 
-    private final RestClient restClient;
+    @Value("${portone.reconcile.batch-size:100}")
+    private int reconcileBatchSize;
 
-    @Transactional
+    /**
+     * 결제 검증 (동기)
+     * 검증과 충전이 끝난 뒤 충전된 포인트 잔액 반환
+     */
     public Long verifyPayment(String email, String paymentId, String orderId, Long amount) {
-        // 0. 중복 결제 체크
-        if (paymentRepository.findByOrderId(orderId).isPresent()) {
+        // 1. 결제 접수 (웹훅으로 이미 충전된 결제면 현재 잔액만 반환)
+        if (reserve(email, paymentId, orderId, amount)) {
+            return currentPoints(email);
+        }
+
+        // 2~3. 포트원 조회 -> 확정
+        return verifyAndConfirm(email, paymentId, amount);
+    }
+
+    /**
+     * 결제 검증 (비동기)
+     * 접수만 하고 바로 반환, 검증 결과는 getPaymentStatus 로 폴링
+     */
+    public void verifyPaymentAsync(String email, String paymentId, String orderId, Long amount) {
+        if (reserve(email, paymentId, orderId, amount)) {
+            return;
+        }
+
+        verificationExecutor.execute(() -> {
+            try {
+                verifyAndConfirm(email, paymentId, amount);
+            } catch (Exception e) {
+                // 실패 사유는 verifyAndConfirm 에서 이미 기록됨
+                log.warn("비동기 결제 검증 실패: paymentId={}, reason={}", paymentId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 결제 처리 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public PaymentStatusResponse getPaymentStatus(String email, String paymentId) {
+        return paymentRepository.findStatusByPaymentIdAndEmail(paymentId, email)
+                .orElseThrow(() -> new IllegalArgumentException("결제 내역을 찾을 수 없습니다."));
+    }
+
+    // 결제 접수 (중복 결제 체크 포함)
+    // 같은 결제가 웹훅으로 이미 확정된 경우 true
+    private boolean reserve(String email, String paymentId, String orderId, Long amount) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                // 0. 사용자 조회
+                Member member = memberRepository.findByEmail(email)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+
+                // 1. 같은 결제를 다시 요청한 경우 (이전 검증이 실패했으면 재시도 허용)
+                Optional<Payment> existing = paymentRepository.findByPaymentId(paymentId);
+                if (existing.isPresent()) {
+                    Payment payment = existing.get();
+                    boolean sameRequest = payment.getOrderId().equals(orderId)
+                            && payment.getAmount().equals(amount)
+                            && payment.getMember().getId().equals(member.getId());
+
+                    if (!sameRequest) {
+                        throw new IllegalArgumentException("이미 처리된 결제입니다.");
+                    }
+                    if (payment.getStatus() == PaymentStatus.PAID) {
+                        return true;
+                    }
+                    payment.retry();
+                    return false;
+                }
+
+                // 2. 중복 주문 체크
+                if (paymentRepository.findByOrderId(orderId).isPresent()) {
+                    throw new IllegalArgumentException("이미 처리된 결제입니다.");
+                }
+
+                // 3. 대기 상태로 저장
+                paymentRepository.save(Payment.builder()
+                        .member(member)
+                        .paymentId(paymentId)
+                        .orderId(orderId)
+                        .amount(amount)
+                        .status(PaymentStatus.READY)
+                        .build());
+                return false;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 결제를 접수한 경우 (unique 제약)
             throw new IllegalArgumentException("이미 처리된 결제입니다.");
         }
-        // 1. 사용자 조회
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    }
 
-        // 2. 포트원 서버 조회 (외부 API 호출 시 예외 처리)
+    private Long currentPoints(String email) {
+        return memberRepository.findBalanceByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."))
+                .getCurrentPoints();
+    }
+
+    // 포트원 조회(트랜잭션 밖) -> 확정(짧은 트랜잭션)
+    private Long verifyAndConfirm(String email, String paymentId, Long amount) {
         PortOnePaymentResponse response;
         try {
-            response = restClient.get()
-                    .uri("https://api.portone.io/payments/" + paymentId)
-                    .header("Authorization", "PortOne " + apiSecret)
-                    .retrieve()
-                    .body(PortOnePaymentResponse.class);
-        } catch (Exception e) {
+            response = fetchAndValidate(paymentId, amount);
+        } catch (IllegalArgumentException e) {
+            transactionTemplate.executeWithoutResult(status -> paymentRepository.markFailed(paymentId, e.getMessage()));
+            throw e;
+        } catch (PortOneUnavailableException e) {
+            paymentMetrics.record(PaymentMetrics.Result.PORTONE_UNAVAILABLE);
+            throw e;
+        }
+
+        if (!pointService.joinsCallerTransaction()) {
+            return confirmThenCharge(email, paymentId, amount, response);
+        }
+
+        return transactionTemplate.execute(status -> {
+            // READY 인 결제만 PAID 로 전환 (동시에 확정되는 경우 한 번만 충전)
+            if (paymentRepository.markPaid(paymentId, response.getOrderName()) == 0) {
+                return alreadyConfirmed(email, paymentId);
+            }
+
+            // 포인트 충전
+            Long balance = pointService.chargePoints(email, amount);
+            paymentMetrics.record(PaymentMetrics.Result.PAID);
+            eventPublisher.publishEvent(new PaymentConfirmedEvent(email, paymentId, amount, balance));
+            return balance;
+        });
+    }
+
+    // ENGINE 모드: READY -> PAID 전환을 커밋한 뒤에 충전 (엔진 충전은 결제 트랜잭션이 롤백돼도 되돌릴 수 없으므로)
+    private Long confirmThenCharge(String email, String paymentId, Long amount, PortOnePaymentResponse response) {
+        Integer marked = transactionTemplate.execute(status ->
+                paymentRepository.markPaid(paymentId, response.getOrderName()));
+        if (marked == null || marked == 0) {
+            return alreadyConfirmed(email, paymentId);
+        }
+
+        Long balance;
+        try {
+            balance = pointService.chargePoints(email, amount);
+        } catch (RuntimeException e) {
+            log.error("결제는 확정됐지만 포인트 충전 실패 (수동 확인 필요): paymentId={}, email={}, amount={}",
+                    paymentId, email, amount, e);
+            throw e;
+        }
+        paymentMetrics.record(PaymentMetrics.Result.PAID);
+        eventPublisher.publishEvent(new PaymentConfirmedEvent(email, paymentId, amount, balance));
+        return balance;
+    }
+
+    // READY -> PAID 전환에 실패한 경우: 그 사이 웹훅 등이 먼저 확정했으면 성공으로 보고 현재 잔액 반환
+    private Long alreadyConfirmed(String email, String paymentId) {
+        paymentMetrics.record(PaymentMetrics.Result.ALREADY_PROCESSED);
+        boolean paid = paymentRepository.findByPaymentId(paymentId)
+                .map(payment -> payment.getStatus() == PaymentStatus.PAID)
+                .orElse(false);
+        if (!paid) {
+            throw new IllegalArgumentException("이미 처리된 결제입니다.");
+        }
+        return currentPoints(email);
+    }
+
+    /**
+     * 오래 READY 로 남은 결제 재확인 (비동기 검증 중 포트원 장애, 서버 재시작 등)
+     * - 포트원에서 결제 완료면 확정/충전, 아니면 실패 처리
+     * - READY 조건부 전환이라 여러 인스턴스가 동시에 돌아도 한 번만 충전
+     * - 포트원이 아직 장애면 이번 실행은 멈추고 다음 주기에 다시
+     */
+    @Scheduled(fixedDelayString = "${portone.reconcile.interval-ms:60000}",
+            initialDelayString = "${portone.reconcile.interval-ms:60000}")
+    public void reconcileStaleReady() {
+        List<PendingPayment> stale = paymentRepository.findReadyCreatedBefore(
+                LocalDateTime.now().minusSeconds(reconcileAfterSeconds), Limit.of(reconcileBatchSize));
+
+        for (PendingPayment payment : stale) {
+            try {
+                verifyAndConfirm(payment.getEmail(), payment.getPaymentId(), payment.getAmount());
+                log.info("미확정 결제 재확인 완료: paymentId={}", payment.getPaymentId());
+            } catch (PortOneUnavailableException e) {
+                log.warn("포트원 장애로 미확정 결제 재확인 중단: {}", e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("미확정 결제 재확인 실패: paymentId={}, reason={}", payment.getPaymentId(), e.getMessage());
+            }
+        }
+    }
+
+    // 포트원 서버 조회 + 검증 (DB 트랜잭션 없음)
+    private PortOnePaymentResponse fetchAndValidate(String paymentId, Long amount) {
+        // 1. 포트원 서버 조회 (외부 API 호출 시 예외 처리)
+        PortOnePaymentResponse response;
+        // 포트원 장애(PortOneUnavailableException)는 결제를 실패 처리하지 않고 READY 로 남겨 재시도 허용
+        try {
+            response = portOneClient.getPayment(paymentId);
+        } catch (HttpClientErrorException e) {
             log.error("포트원 결제 조회 실패: {}", e.getMessage());
+            paymentMetrics.record(PaymentMetrics.Result.PORTONE_ERROR);
             throw new IllegalArgumentException("결제 검증 중 오류가 발생했습니다. (포트원 응답 실패)");
         }
 
         if (response == null) {
+            paymentMetrics.record(PaymentMetrics.Result.PORTONE_ERROR);
             throw new IllegalArgumentException("포트원 결제 조회 실패 (응답 없음)");
         }
 
-        // 3. 검증: "결제 완료" 상태 확인 && 요청 "금액" 확인
+        // 2. 검증: "결제 완료" 상태 확인 && 요청 "금액" 확인
         if (!"PAID".equals(response.getStatus())) {
+            paymentMetrics.record(PaymentMetrics.Result.NOT_PAID);
             throw new IllegalArgumentException("결제가 완료되지 않았습니다. 상태: " + response.getStatus());
         }
 
-        if (response.getAmount().getTotal() == null || !response.getAmount().getTotal().equals(amount)) {
-            throw new IllegalArgumentException("결제 금액 불일치! (요청: " + amount + ", 실제: " + response.getAmount().getTotal() + ")");
+        if (response.getAmount() == null || response.getAmount().getTotal() == null
+                || !response.getAmount().getTotal().equals(amount)) {
+            paymentMetrics.record(PaymentMetrics.Result.AMOUNT_MISMATCH);
+            Long actual = response.getAmount() != null ? response.getAmount().getTotal() : null;
+            throw new IllegalArgumentException("결제 금액 불일치! (요청: " + amount + ", 실제: " + actual + ")");
         }
 
-        // 4. 결제 내역 저장 (DB)
-        Payment payment = Payment.builder()
-                .member(member)
-                .paymentId(paymentId)
-                .orderId(orderId)
-                .amount(amount)
-                .orderName(response.getOrderName())
-                .status(PaymentStatus.PAID)
-                .build();
-
-        paymentRepository.save(payment);
+        return response;
+    }
 
-        // 5. 포인트 충전
-        return pointService.chargePoints(email, amount);
+    @PreDestroy
+    public void shutdown() {
+        verificationExecutor.close();
     }
 }
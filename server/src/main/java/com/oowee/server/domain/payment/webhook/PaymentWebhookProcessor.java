@@ -0,0 +1,417 @@
+package com.oowee.server.domain.payment.webhook;
+
+import com.oowee.server.domain.member.entity.Member;
+import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.payment.client.PortOneClient;
+import com.oowee.server.domain.payment.client.PortOneUnavailableException;
+import com.oowee.server.domain.payment.dto.PortOnePaymentResponse;
+import com.oowee.server.domain.payment.entity.Payment;
+import com.oowee.server.domain.payment.entity.PaymentStatus;
+import com.oowee.server.domain.payment.event.PaymentConfirmedEvent;
+import com.oowee.server.domain.payment.repository.PaymentRepository;
+import com.oowee.server.domain.point.service.PointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트원 웹훅 처리 파이프라인
+ * - 웹훅은 결제 ID를 payment_webhook_inbox 에 저장한 뒤에 응답 (같은 결제 ID가 이미 있으면 합침)
+ *   -> 응답 후 서버가 죽거나 재배포돼도 확정이 빠지지 않음
+ * - 워커가 inbox 에서 모아서 포트원 조회(병렬, 트랜잭션 밖) -> 결제마다 짧은 트랜잭션으로 확정
+ *   (충전이 회원 행 락을 잡으므로, 여러 회원의 락을 한 트랜잭션에 모아 잡지 않음)
+ * - 가져간 행은 lease 동안 다른 워커(인스턴스)가 가져가지 않고, 처리가 끝나면 삭제
+ * - 결제 ID 기준으로 멱등: READY -> PAID 전환에 성공한 경우에만 포인트 충전
+ * - 클라이언트가 /api/payments/complete 를 호출하지 못한 결제도 여기서 충전됨
+ */
+@Slf4j
+@Component
+public class PaymentWebhookProcessor implements SmartLifecycle {
+
+    // 같은 결제 ID는 한 행으로 (MySQL 은 기존 행을 갱신하면 2행으로 셈)
+    private static final String ENQUEUE_SQL =
+            "INSERT INTO payment_webhook_inbox (payment_id, received_count, attempts, available_at, received_at) "
+                    + "VALUES (?, 1, 0, ?, ?) ON DUPLICATE KEY UPDATE received_count = received_count + 1";
+
+    private static final String READY_SQL =
+            "SELECT payment_id, received_count, attempts FROM payment_webhook_inbox "
+                    + "WHERE available_at <= ? ORDER BY available_at LIMIT ?";
+
+    // 처리하는 동안 다른 워커가 가져가지 않도록 lease 만큼 미룸 (이미 다른 워커가 가져갔으면 0행)
+    private static final String CLAIM_SQL =
+            "UPDATE payment_webhook_inbox SET available_at = ? WHERE payment_id = ? AND available_at <= ?";
+
+    // 처리하는 동안 같은 결제 웹훅이 다시 들어왔으면 0행 -> 남겨서 한 번 더 확인
+    private static final String DONE_SQL =
+            "DELETE FROM payment_webhook_inbox WHERE payment_id = ? AND received_count = ?";
+
+    private static final String RESCHEDULE_SQL =
+            "UPDATE payment_webhook_inbox SET attempts = ?, available_at = ? WHERE payment_id = ?";
+
+    private static final String DROP_SQL =
+            "DELETE FROM payment_webhook_inbox WHERE payment_id = ?";
+
+    private static final String BACKLOG_SQL =
+            "SELECT COUNT(*) FROM payment_webhook_inbox";
+
+    // 재시도 간격은 retry-delay 부터 두 배씩, 최대 2^10 배까지
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final PortOneClient portOneClient;
+    private final PaymentRepository paymentRepository;
+    private final MemberRepository memberRepository;
+    private final PointService pointService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+    private final long retryDelayMillis;
+    private final long pollIntervalMillis;
+    private final long leaseMillis;
+    private final int maxAttempts;
+
+    // 새 웹훅이 저장되면 대기 중인 워커를 바로 깨움
+    private final Semaphore wakeup = new Semaphore(0);
+
+    private final Counter coalesced;
+    private final Counter confirmed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PaymentWebhookProcessor(
+            PortOneClient portOneClient,
+            PaymentRepository paymentRepository,
+            MemberRepository memberRepository,
+            PointService pointService,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${portone.webhook.batch-size:50}") int batchSize,
+            @Value("${portone.webhook.retry-delay-ms:1000}") long retryDelayMillis,
+            @Value("${portone.webhook.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${portone.webhook.lease-seconds:60}") long leaseSeconds,
+            @Value("${portone.webhook.max-attempts:10}") int maxAttempts) {
+
+        this.portOneClient = portOneClient;
+        this.paymentRepository = paymentRepository;
+        this.memberRepository = memberRepository;
+        this.pointService = pointService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.retryDelayMillis = retryDelayMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+
+        this.coalesced = Counter.builder("payment.webhook.coalesced").register(meterRegistry);
+        this.confirmed = Counter.builder("payment.webhook.confirmed").register(meterRegistry);
+        Gauge.builder("payment.webhook.queue", this, PaymentWebhookProcessor::backlog).register(meterRegistry);
+    }
+
+    /**
+     * 결제 ID 접수 (저장까지 끝나야 true -> 웹훅에 200)
+     * 종료 중이면 false -> 웹훅에 실패 응답을 줘서 포트원이 재전송하게 함
+     */
+    public boolean enqueue(String paymentId) {
+        if (!running) {
+            return false;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ENQUEUE_SQL, paymentId, now, now) > 1) {
+            coalesced.increment();
+        }
+        wakeup.release();
+        return true;
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                if (!drain()) {
+                    wakeup.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    wakeup.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("웹훅 결제 처리 중 오류", e);
+                sleepQuietly(retryDelayMillis);
+            }
+        }
+    }
+
+    /**
+     * 처리할 수 있는 결제를 한 묶음 가져와서 처리 (가져간 게 없으면 false)
+     */
+    private boolean drain() {
+        List<InboxItem> batch = claim();
+        if (batch.isEmpty()) {
+            return false;
+        }
+        process(batch);
+        return true;
+    }
+
+    private List<InboxItem> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp leaseUntil = Timestamp.valueOf(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis)));
+
+        List<InboxItem> ready = jdbcTemplate.query(READY_SQL, (rs, rowNum) -> new InboxItem(
+                rs.getString("payment_id"), rs.getInt("received_count"), rs.getInt("attempts")), nowTs, batchSize);
+
+        List<InboxItem> claimed = new ArrayList<>(ready.size());
+        for (InboxItem item : ready) {
+            if (jdbcTemplate.update(CLAIM_SQL, leaseUntil, item.paymentId(), nowTs) == 1) {
+                claimed.add(item);
+            }
+        }
+        return claimed;
+    }
+
+    private void process(List<InboxItem> items) {
+        // 1. 포트원 조회 (병렬, 동시 호출 수는 PortOneClient 벌크헤드가 제한)
+        Map<String, PortOnePaymentResponse> paid = new ConcurrentHashMap<>();
+        List<InboxItem> done = new ArrayList<>(items.size());
+        List<InboxItem> unavailable = new ArrayList<>();
+        List<InboxItem> failed = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<PortOnePaymentResponse>> futures = new ArrayList<>(items.size());
+            for (InboxItem item : items) {
+                futures.add(executor.submit(() -> portOneClient.getPayment(item.paymentId())));
+            }
+
+            for (int i = 0; i < items.size(); i++) {
+                InboxItem item = items.get(i);
+                try {
+                    PortOnePaymentResponse response = futures.get(i).get();
+                    if (response != null && "PAID".equals(response.getStatus())) {
+                        paid.put(item.paymentId(), response);
+                    } else {
+                        done.add(item); // 결제 완료가 아닌 이벤트 (취소/실패 등)
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof PortOneUnavailableException) {
+                        unavailable.add(item);
+                    } else {
+                        log.warn("웹훅 결제 조회 실패: paymentId={}, reason={}", item.paymentId(), e.getCause().getMessage());
+                        done.add(item);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    unavailable.add(item);
+                }
+            }
+        }
+
+        // 2. 확정 (결제마다 트랜잭션 하나 -> 회원 행 락은 한 번에 한 회원만, 커밋까지 짧게)
+        // 확정 트랜잭션이 커밋된 결제만 credits 에 (롤백된 확정이 충전/집계되지 않게)
+        List<Credit> credits = new ArrayList<>();
+        for (InboxItem item : items) {
+            PortOnePaymentResponse response = paid.get(item.paymentId());
+            if (response == null) {
+                continue;
+            }
+
+            List<Credit> itemCredits = new ArrayList<>(1);
+            try {
+                transactionTemplate.executeWithoutResult(status -> confirm(item.paymentId(), response, itemCredits));
+                credits.addAll(itemCredits);
+                done.add(item);
+            } catch (RuntimeException e) {
+                log.error("웹훅 결제 확정 실패: paymentId={}, reason={}", item.paymentId(), e.getMessage());
+                failed.add(item);
+            }
+        }
+
+        // 커밋된 확정만 집계 (ENGINE 모드면 여기서 충전)
+        boolean charged = pointService.joinsCallerTransaction();
+        for (Credit credit : credits) {
+            try {
+                if (!charged) {
+                    charge(credit);
+                }
+                confirmed.increment();
+                log.info("웹훅으로 결제 확정: paymentId={}, email={}, amount={}",
+                        credit.paymentId(), credit.email(), credit.amount());
+            } catch (RuntimeException e) {
+                log.error("결제는 확정됐지만 포인트 충전 실패 (수동 확인 필요): paymentId={}, email={}, amount={}",
+                        credit.paymentId(), credit.email(), credit.amount(), e);
+            }
+        }
+
+        // 3. inbox 정리: 끝난 결제는 삭제, 포트원 장애는 횟수 제한 없이 / 확정 실패는 max-attempts 까지 다시 시도
+        LocalDateTime now = LocalDateTime.now();
+        for (InboxItem item : done) {
+            if (jdbcTemplate.update(DONE_SQL, item.paymentId(), item.receivedCount()) == 0) {
+                // 처리하는 동안 다시 들어온 웹훅 -> 바로 한 번 더 확인
+                jdbcTemplate.update(RESCHEDULE_SQL, item.attempts(), Timestamp.valueOf(now), item.paymentId());
+            }
+        }
+        for (InboxItem item : unavailable) {
+            reschedule(item, now);
+        }
+        for (InboxItem item : failed) {
+            if (item.attempts() + 1 >= maxAttempts) {
+                log.error("웹훅 결제 확정을 포기함 (수동 확인 필요): paymentId={}, attempts={}",
+                        item.paymentId(), item.attempts() + 1);
+                jdbcTemplate.update(DROP_SQL, item.paymentId());
+            } else {
+                reschedule(item, now);
+            }
+        }
+    }
+
+    private void reschedule(InboxItem item, LocalDateTime now) {
+        long delayMillis = retryDelayMillis << Math.min(item.attempts(), MAX_BACKOFF_SHIFT);
+        jdbcTemplate.update(RESCHEDULE_SQL, item.attempts() + 1,
+                Timestamp.valueOf(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(delayMillis))), item.paymentId());
+    }
+
+    // 결제 행 생성/갱신 + 포인트 충전 (호출하는 쪽의 트랜잭션 안에서 실행)
+    // PAID 로 바꾼 결제는 credits 에 담음 (잔액 변경이 트랜잭션에 참여하지 않는 모드(ENGINE)면 충전은 커밋 후에)
+    private void confirm(String paymentId, PortOnePaymentResponse response, List<Credit> credits) {
+        Long amount = response.getAmount() != null ? response.getAmount().getTotal() : null;
+        if (amount == null) {
+            log.warn("웹훅 결제 금액 없음: paymentId={}", paymentId);
+            return;
+        }
+
+        String email;
+        Optional<Payment> existing = paymentRepository.findByPaymentId(paymentId);
+        if (existing.isPresent()) {
+            Payment payment = existing.get();
+            if (payment.getStatus() == PaymentStatus.PAID) {
+                return; // 이미 충전됨 (클라이언트 검증 또는 이전 웹훅)
+            }
+            if (!payment.getAmount().equals(amount)) {
+                log.warn("웹훅 결제 금액 불일치: paymentId={}, 요청={}, 실제={}", paymentId, payment.getAmount(), amount);
+                return;
+            }
+            email = payment.getMember().getEmail();
+            if (payment.getStatus() == PaymentStatus.FAILED) {
+                // 클라이언트 쪽 검증이 (포트원 응답 지연 등으로) 실패했지만 실제로는 결제됨
+                payment.retry();
+            }
+        } else {
+            // 클라이언트가 결제 완료를 알리지 못한 결제 -> 결제 요청 시 보낸 고객 이메일로 회원 확인
+            email = response.getCustomer() != null ? response.getCustomer().getEmail() : null;
+            Optional<Member> member = email != null ? memberRepository.findByEmail(email) : Optional.empty();
+            if (member.isEmpty()) {
+                log.warn("웹훅 결제의 회원을 찾을 수 없음 (수동 확인 필요): paymentId={}, email={}", paymentId, email);
+                return;
+            }
+
+            // 클라이언트는 주문 ID와 결제 ID를 같은 값으로 생성
+            paymentRepository.save(Payment.builder()
+                    .member(member.get())
+                    .paymentId(paymentId)
+                    .orderId(paymentId)
+                    .amount(amount)
+                    .status(PaymentStatus.READY)
+                    .build());
+        }
+
+        // READY -> PAID 전환에 성공한 경우에만 충전 (클라이언트 검증과 동시에 와도 한 번만 충전)
+        if (paymentRepository.markPaid(paymentId, response.getOrderName()) == 1) {
+            Credit credit = new Credit(paymentId, email, amount);
+            if (pointService.joinsCallerTransaction()) {
+                charge(credit);
+            }
+            credits.add(credit);
+        }
+    }
+
+    private void charge(Credit credit) {
+        Long balance = pointService.chargePoints(credit.email(), credit.amount());
+        eventPublisher.publishEvent(
+                new PaymentConfirmedEvent(credit.email(), credit.paymentId(), credit.amount(), balance));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::runWorker, "payment-webhook-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 새 웹훅은 받지 않고 처리 중인 묶음만 끝낸 뒤 종료 (남은 결제는 inbox 에 있으므로 재시작 후 이어서 처리)
+    @Override
+    public void stop() {
+        running = false;
+        wakeup.release();
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)이 끝난 뒤에 멈춤 (진행 중인 웹훅 요청도 접수되도록)
+    // 충전에 쓰는 BalanceEngine / PointLedgerWriter 보다는 먼저 멈춤
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2560;
+    }
+
+    private double backlog() {
+        try {
+            Long count = jdbcTemplate.queryForObject(BACKLOG_SQL, Long.class);
+            return count == null ? 0 : count;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record InboxItem(String paymentId, int receivedCount, int attempts) {
+    }
+
+    // PAID 로 전환된 결제의 충전 정보
+    private record Credit(String paymentId, String email, Long amount) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.oowee.server.domain.payment.webhook;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 포트원 웹훅 서명 검증 (Standard Webhooks 규격)
+ * - 서명 대상: "{webhook-id}.{webhook-timestamp}.{본문}" 의 HMAC-SHA256
+ * - webhook-signature 헤더: 공백으로 구분된 "v1,{base64 서명}" 목록 (시크릿 교체 중에는 여러 개)
+ * - 재전송 공격 방지를 위해 timestamp 가 허용 범위를 벗어나면 거부
+ */
+@Slf4j
+@Component
+public class PortOneWebhookVerifier {
+
+    private static final String SECRET_PREFIX = "whsec_";
+
+    private final byte[] secret;
+    private final long toleranceSeconds;
+
+    public PortOneWebhookVerifier(
+            @Value("${portone.webhook-secret:}") String webhookSecret,
+            @Value("${portone.webhook.tolerance-seconds:300}") long toleranceSeconds) {
+
+        if (!StringUtils.hasText(webhookSecret)) {
+            log.warn("portone.webhook-secret 이 설정되지 않아 모든 웹훅을 거부합니다.");
+            this.secret = null;
+        } else {
+            String encoded = webhookSecret.startsWith(SECRET_PREFIX)
+                    ? webhookSecret.substring(SECRET_PREFIX.length())
+                    : webhookSecret;
+            this.secret = Base64.getDecoder().decode(encoded);
+        }
+        this.toleranceSeconds = toleranceSeconds;
+    }
+
+    public boolean verify(String webhookId, String webhookTimestamp, String signatureHeader, String body) {
+        if (secret == null || webhookId == null || webhookTimestamp == null || signatureHeader == null) {
+            return false;
+        }
+
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(webhookTimestamp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(System.currentTimeMillis() / 1000 - timestamp) > toleranceSeconds) {
+            return false;
+        }
+
+        byte[] expected = sign(webhookId + "." + webhookTimestamp + "." + body);
+        for (String candidate : signatureHeader.split(" ")) {
+            int comma = candidate.indexOf(',');
+            if (comma < 0 || !"v1".equals(candidate.substring(0, comma))) {
+                continue;
+            }
+            try {
+                byte[] actual = Base64.getDecoder().decode(candidate.substring(comma + 1));
+                if (MessageDigest.isEqual(expected, actual)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // 잘못된 base64 -> 다음 서명 확인
+            }
+        }
+        return false;
+    }
+
+    private byte[] sign(String content) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.oowee.server.domain.point.controller;
 
-import com.oowee.server.domain.point.dto.PointHistoryResponse;
+import com.oowee.server.domain.point.dto.BalanceProofResponse;
+import com.oowee.server.domain.point.dto.HistoryExportFormat;
+import com.oowee.server.domain.point.dto.PointHistoryPageResponse;
 import com.oowee.server.domain.point.dto.PointRequest;
+import com.oowee.server.domain.point.service.PointCheckpointService;
+import com.oowee.server.domain.point.service.PointHistoryExportService;
 import com.oowee.server.domain.point.service.PointService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.security.Principal;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @RestController
@@ -18,6 +26,8 @@ import java.util.Map;
 public class PointController {
 
     private final PointService pointService;
+    private final PointCheckpointService pointCheckpointService;
+    private final PointHistoryExportService pointHistoryExportService;
 
     // 1. 포인트 충전
     @PostMapping("/charge")
@@ -57,9 +67,13 @@ public class PointController {
         ));
     }
 
-    // 3. 내 포인트 내역 조회
+    // 3. 내 포인트 내역 조회 (최신순, 커서 기반 페이지)
     @GetMapping("/history")
-    public ResponseEntity<List<PointHistoryResponse>> getMyPointHistory(Principal principal) {
+    public ResponseEntity<PointHistoryPageResponse> getMyPointHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal) {
 
         // 👇 [리뷰 반영] 안전벨트 착용
         if (principal == null) {
@@ -67,7 +81,97 @@ public class PointController {
         }
 
         return ResponseEntity.ok(
-                pointService.getMyPointHistory(principal.getName())
+                pointService.getMyPointHistory(principal.getName(), cursorAt, cursorId, size)
+        );
+    }
+
+    // 4. 내 포인트 내역 전체 내보내기 (format: CSV, NDJSON / 오래된 순, 클라이언트가 gzip 을 받으면 압축)
+    // 요청 스레드(가상 스레드)에서 DB 커서를 읽으면서 바로 응답에 씀
+    @GetMapping("/history/export")
+    public void exportMyPointHistory(
+            @RequestParam(defaultValue = "CSV") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Principal principal,
+            HttpServletResponse response) throws IOException {
+
+        if (principal == null) {
+            throw new IllegalArgumentException("인증 정보가 유효하지 않습니다.");
+        }
+
+        HistoryExportFormat exportFormat;
+        try {
+            exportFormat = HistoryExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+
+        // 응답을 쓰기 시작하면 에러 응답을 보낼 수 없으므로 회원 확인/동시 내보내기 제한을 먼저
+        Long memberId = pointHistoryExportService.findMemberId(principal.getName());
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        pointHistoryExportService.acquire();
+        try {
+            response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"point-history." + exportFormat.getExtension() + "\"");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+
+            pointHistoryExportService.export(memberId, principal.getName(), exportFormat, gzip,
+                    response.getOutputStream());
+        } finally {
+            pointHistoryExportService.release();
+        }
+    }
+
+    // Accept-Encoding 에서 gzip 의 q 값 확인 (gzip;q=0 은 거부, gzip 이 없으면 * 의 q 값)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase();
+            double quality = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim().toLowerCase();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    // 5. 내 잔액 검증 (체크포인트 + 이후 내역 합계 vs 현재 잔액)
+    @GetMapping("/balance-proof")
+    public ResponseEntity<BalanceProofResponse> getBalanceProof(Principal principal) {
+
+        if (principal == null) {
+            throw new IllegalArgumentException("인증 정보가 유효하지 않습니다.");
+        }
+
+        return ResponseEntity.ok(
+                pointCheckpointService.proveBalance(principal.getName())
         );
     }
 }
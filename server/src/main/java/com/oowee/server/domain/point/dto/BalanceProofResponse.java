@@ -0,0 +1,23 @@
+package com.oowee.server.domain.point.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 검증 결과
+ * ledgerBalance = checkpointBalance + deltaSinceCheckpoint
+ */
+@Getter
+@Builder
+public class BalanceProofResponse {
+    private Long memberId;
+    private Long checkpointBalance;       // 체크포인트 잔액 (없으면 0)
+    private LocalDateTime checkpointAt;   // 체크포인트 watermark (없으면 null)
+    private Long lateHistoryCount;        // 체크포인트 이후에 커밋된 watermark 이전 내역 수 (있으면 체크포인트 잔액을 다시 합산)
+    private Long deltaSinceCheckpoint;    // 체크포인트 이후 내역 합계
+    private Long ledgerBalance;           // 내역 기준 잔액
+    private Long currentPoints;           // 회원 테이블 잔액
+    private boolean matched;              // 두 잔액 일치 여부
+}
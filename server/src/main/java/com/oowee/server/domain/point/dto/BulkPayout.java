@@ -0,0 +1,16 @@
+package com.oowee.server.domain.point.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 정산할 베팅 한 건 (베팅 금액은 이미 BET 으로 차감됨)
+ */
+@Getter
+@AllArgsConstructor
+public class BulkPayout {
+    private final Long memberId;
+    private final String email;
+    private final long betAmount;
+    private final long payoutAmount;   // 패배 시 0
+}
@@ -0,0 +1,17 @@
+package com.oowee.server.domain.point.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 내역 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HistoryExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
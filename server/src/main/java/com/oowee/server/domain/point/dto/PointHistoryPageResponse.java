@@ -0,0 +1,28 @@
+package com.oowee.server.domain.point.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 내역 한 페이지 (커서 기반)
+ * 다음 페이지는 nextCursorAt, nextCursorId 를 그대로 넘겨서 조회
+ */
+@Getter
+public class PointHistoryPageResponse {
+
+    private final List<PointHistoryResponse> items;
+    private final boolean hasNext;
+    private final LocalDateTime nextCursorAt;
+    private final Long nextCursorId;
+
+    public PointHistoryPageResponse(List<PointHistoryResponse> items, boolean hasNext) {
+        this.items = items;
+        this.hasNext = hasNext;
+
+        PointHistoryResponse last = (hasNext && !items.isEmpty()) ? items.get(items.size() - 1) : null;
+        this.nextCursorAt = last != null ? last.getCreatedAt() : null;
+        this.nextCursorId = last != null ? last.getId() : null;
+    }
+}
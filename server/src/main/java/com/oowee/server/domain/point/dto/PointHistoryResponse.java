@@ -1,24 +1,19 @@
 package com.oowee.server.domain.point.dto;
 
-import com.oowee.server.domain.point.entity.PointHistory;
 import com.oowee.server.domain.point.entity.PointType;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
 @Getter
+@AllArgsConstructor
 public class PointHistoryResponse {
 
     private final Long id;
     private final Long amount;
     private final PointType type;
+    private final Long betAmount;     // 게임 정산일 때만 값이 있음
+    private final Long payoutAmount;  // 게임 정산일 때만 값이 있음
     private final LocalDateTime createdAt;
-
-    // Entity -> DTO
-    public PointHistoryResponse(PointHistory history) {
-        this.id = history.getId();
-        this.amount = history.getAmount();
-        this.type = history.getType();
-        this.createdAt = history.getCreatedAt();
-    }
 }
@@ -0,0 +1,15 @@
+package com.oowee.server.domain.point.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 라운드 연속 정산 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class SettlementResult {
+
+    private final int settledRounds;  // 실제로 반영된 라운드 수 (앞에서부터)
+    private final long balance;       // 최종 잔액
+}
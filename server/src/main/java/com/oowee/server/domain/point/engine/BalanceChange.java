@@ -0,0 +1,20 @@
+package com.oowee.server.domain.point.engine;
+
+import com.oowee.server.domain.point.entity.PointType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 밸런스 엔진이 메모리에 반영한 잔액 변경 한 건 (저널에 순서대로 기록됨)
+ */
+@Getter
+@RequiredArgsConstructor
+public class BalanceChange {
+
+    private final Long memberId;
+    private final Long delta;
+    private final PointType type;
+    private final Long betAmount;
+    private final Long payoutAmount;
+    private final Long balanceAfter;
+}
@@ -0,0 +1,361 @@
+package com.oowee.server.domain.point.engine;
+
+import com.oowee.server.domain.point.dto.SettlementResult;
+import com.oowee.server.domain.point.entity.PointType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 메모리 밸런스 엔진 (point.balance.mode=ENGINE 일 때만 동작)
+ * - 회원 ID로 스트라이프를 나누고, 스트라이프마다 단일 스레드가 잔액을 소유
+ * - 같은 회원의 변경은 항상 같은 스레드에서 순서대로 처리되므로 DB 락(PESSIMISTIC_WRITE)이 필요 없음
+ * - 스트라이프 스레드는 쌓인 요청을 묶어서 저널에 한 번에 기록하고, 기록이 끝난 뒤에 결과를 돌려줌
+ * - 저널은 자체 트랜잭션으로 커밋하므로 호출자 트랜잭션 안에서는 요청을 거절 (호출자가 롤백해도 되돌릴 수 없음)
+ *
+ * 주의: 엔진이 잔액의 유일한 쓰기 주체여야 함 (여러 인스턴스에서 동시에 ENGINE 모드로 띄우면 안 됨)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.balance.mode", havingValue = "ENGINE")
+public class BalanceEngine implements SmartLifecycle {
+
+    private final BalanceJournal journal;
+    private final Stripe[] stripes;
+    private final int maxBatchSize;
+    private final long waitTimeoutMillis;
+
+    private volatile boolean running;
+
+    public BalanceEngine(
+            BalanceJournal journal,
+            @Value("${point.balance.engine.stripes:8}") int stripeCount,
+            @Value("${point.balance.engine.batch-size:256}") int maxBatchSize,
+            @Value("${point.balance.engine.queue-capacity:10000}") int queueCapacity,
+            @Value("${point.balance.engine.max-cached-members:100000}") int maxCachedMembers,
+            @Value("${point.balance.engine.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+
+        if (stripeCount < 1 || maxBatchSize < 1 || queueCapacity < 1 || maxCachedMembers < 1 || waitTimeoutMillis < 1) {
+            throw new IllegalArgumentException("밸런스 엔진 설정값은 1 이상이어야 합니다.");
+        }
+
+        this.journal = journal;
+        this.maxBatchSize = maxBatchSize;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.stripes = new Stripe[stripeCount];
+        int maxCachedPerStripe = Math.max(1, maxCachedMembers / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(i, queueCapacity, maxCachedPerStripe);
+        }
+    }
+
+    /**
+     * 잔액 변경 요청 (비동기)
+     * 완료 값은 저널에 기록된 뒤의 잔액
+     */
+    public CompletableFuture<Long> submit(Long memberId, long delta, PointType type) {
+        Command command = new Command(memberId);
+        command.addStep(delta, type, null, null);
+        return submit(command).thenApply(Command::getBalanceAfter);
+    }
+
+    /**
+     * 게임 정산 요청 (비동기)
+     * 베팅 금액만큼 잔액이 있어야 하고, 잔액에는 (지급 - 베팅)만 반영
+     */
+    public CompletableFuture<Long> submitSettlement(Long memberId, long betAmount, long payoutAmount) {
+        Command command = new Command(memberId);
+        command.addStep(payoutAmount - betAmount, PointType.GAME, betAmount, payoutAmount);
+        return submit(command).thenApply(Command::getBalanceAfter);
+    }
+
+    /**
+     * 여러 라운드 연속 정산 (비동기)
+     * 앞에서부터 순서대로 반영하다가 베팅 금액이 부족한 라운드에서 멈춤 (첫 라운드부터 부족하면 예외)
+     */
+    public CompletableFuture<SettlementResult> submitSettlements(Long memberId, long[] betAmounts, long[] payoutAmounts) {
+        Command command = new Command(memberId);
+        for (int i = 0; i < betAmounts.length; i++) {
+            command.addStep(payoutAmounts[i] - betAmounts[i], PointType.GAME, betAmounts[i], payoutAmounts[i]);
+        }
+        return submit(command).thenApply(done -> new SettlementResult(done.appliedSteps, done.balanceAfter));
+    }
+
+    private CompletableFuture<Command> submit(Command command) {
+        if (!running) {
+            throw new IllegalStateException("밸런스 엔진이 실행 중이 아닙니다.");
+        }
+        // 저널 커밋은 호출자 트랜잭션과 별개 -> 호출자가 롤백/재시도하면 같은 변경이 두 번 반영될 수 있음
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("밸런스 엔진은 트랜잭션 밖에서만 호출할 수 있습니다.");
+        }
+
+        Stripe stripe = stripes[Math.floorMod(command.memberId.hashCode(), stripes.length)];
+
+        if (!stripe.queue.offer(command)) {
+            throw new IllegalStateException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return command.result;
+    }
+
+    /**
+     * 잔액 변경 요청 후 결과까지 대기
+     */
+    public Long apply(Long memberId, long delta, PointType type) {
+        return await(submit(memberId, delta, type));
+    }
+
+    /**
+     * 게임 정산 요청 후 결과까지 대기
+     */
+    public Long applySettlement(Long memberId, long betAmount, long payoutAmount) {
+        return await(submitSettlement(memberId, betAmount, payoutAmount));
+    }
+
+    /**
+     * 여러 라운드 연속 정산 후 결과까지 대기
+     */
+    public SettlementResult applySettlements(Long memberId, long[] betAmounts, long[] payoutAmounts) {
+        return await(submitSettlements(memberId, betAmounts, payoutAmounts));
+    }
+
+    // 저널 기록이 멈춰도 요청 스레드(와 종료 과정)가 무한정 기다리지 않도록 제한
+    // 시간이 지나도 요청은 취소되지 않으므로 나중에 반영될 수 있음
+    private <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("잔액 변경 처리가 지연되고 있습니다. 잠시 후 잔액을 확인해주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 변경 대기 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            // Member.updatePoints 와 같은 예외(IllegalArgumentException)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Stripe stripe : stripes) {
+            depth += stripe.queue.size();
+        }
+        return depth;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Stripe stripe : stripes) {
+            stripe.thread.start();
+        }
+    }
+
+    // 새 요청을 막고, 이미 받은 요청은 모두 저널에 기록한 뒤 종료
+    @Override
+    public void stop() {
+        running = false;
+        for (Stripe stripe : stripes) {
+            try {
+                stripe.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 저널이 쓰는 PointLedgerWriter보다 먼저 멈춰야 함
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+
+    // 한 회원에 대한 요청 (한 건 또는 순서대로 반영할 여러 건)
+    private static final class Command {
+        private final Long memberId;
+        private final List<Step> steps = new ArrayList<>(1);
+        private final CompletableFuture<Command> result = new CompletableFuture<>();
+
+        // 처리 결과 (스트라이프 스레드에서만 기록)
+        private int appliedSteps;
+        private long balanceAfter;
+
+        private Command(Long memberId) {
+            this.memberId = memberId;
+        }
+
+        private void addStep(long delta, PointType type, Long betAmount, Long payoutAmount) {
+            steps.add(new Step(delta, type, betAmount, payoutAmount));
+        }
+
+        private Long getBalanceAfter() {
+            return balanceAfter;
+        }
+    }
+
+    private static final class Step {
+        private final long delta;
+        private final PointType type;
+        private final Long betAmount;
+        private final Long payoutAmount;
+
+        private Step(long delta, PointType type, Long betAmount, Long payoutAmount) {
+            this.delta = delta;
+            this.type = type;
+            this.betAmount = betAmount;
+            this.payoutAmount = payoutAmount;
+        }
+
+        // 정산은 베팅 금액, 일반 변경은 차감 금액만큼 잔액이 있어야 함
+        private long requiredBalance() {
+            return betAmount != null ? betAmount : -delta;
+        }
+    }
+
+    private final class Stripe implements Runnable {
+
+        private final BlockingQueue<Command> queue;
+        private final Thread thread;
+        private final int maxCached;
+
+        // 이 스트라이프 스레드만 접근하므로 동기화 불필요 (접근 순서 -> 오래 안 쓴 회원부터 제거)
+        private final LinkedHashMap<Long, Long> balances = new LinkedHashMap<>(16, 0.75f, true);
+
+        private Stripe(int index, int queueCapacity, int maxCached) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.maxCached = maxCached;
+            this.thread = new Thread(this, "balance-stripe-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<Command> batch = new ArrayList<>(maxBatchSize);
+
+            while (running || !queue.isEmpty()) {
+                try {
+                    Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    process(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (RuntimeException e) {
+                    log.error("밸런스 엔진 처리 중 오류", e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void process(List<Command> batch) {
+            List<BalanceChange> changes = new ArrayList<>(batch.size());
+            List<Command> accepted = new ArrayList<>(batch.size());
+
+            // 1. 메모리에서 잔액 검증 및 반영 (Member.updatePoints 와 같은 규칙)
+            for (Command command : batch) {
+                Long current = balances.get(command.memberId);
+                if (current == null) {
+                    try {
+                        OptionalLong loaded = journal.loadBalance(command.memberId);
+                        if (loaded.isEmpty()) {
+                            command.result.completeExceptionally(new IllegalArgumentException("존재하지 않는 회원입니다."));
+                            continue;
+                        }
+                        current = loaded.getAsLong();
+                    } catch (RuntimeException e) {
+                        command.result.completeExceptionally(e);
+                        continue;
+                    }
+                }
+
+                // 앞에서부터 반영하다가 잔액이 부족한 지점에서 멈춤
+                long balance = current;
+                int applied = 0;
+                for (Step step : command.steps) {
+                    if (balance < step.requiredBalance()) {
+                        break;
+                    }
+                    balance += step.delta;
+                    changes.add(new BalanceChange(command.memberId, step.delta, step.type,
+                            step.betAmount, step.payoutAmount, balance));
+                    applied++;
+                }
+
+                balances.put(command.memberId, balance);
+
+                if (applied == 0) {
+                    command.result.completeExceptionally(new IllegalArgumentException("포인트가 부족합니다."));
+                    continue;
+                }
+
+                command.appliedSteps = applied;
+                command.balanceAfter = balance;
+                accepted.add(command);
+            }
+
+            if (changes.isEmpty()) {
+                evictIdle();
+                return;
+            }
+
+            // 2. 저널 기록 (순서 보장) -> 성공해야 결과 반환
+            try {
+                journal.persist(changes);
+            } catch (RuntimeException e) {
+                // 메모리 상태를 버리고 다음 요청 때 DB에서 다시 적재
+                for (BalanceChange change : changes) {
+                    balances.remove(change.getMemberId());
+                }
+                for (Command command : accepted) {
+                    command.result.completeExceptionally(e);
+                }
+                return;
+            }
+
+            for (Command command : accepted) {
+                command.result.complete(command);
+            }
+
+            evictIdle();
+        }
+
+        // 저널 기록이 끝난 뒤에만 제거 (DB 값이 최신이므로 다음 요청 때 다시 적재해도 안전)
+        private void evictIdle() {
+            Iterator<Long> eldest = balances.keySet().iterator();
+            while (balances.size() > maxCached && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.oowee.server.domain.point.engine;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 밸런스 엔진의 영속화 계층
+ * - 스트라이프마다 변경 묶음을 적용 순서 그대로 넘겨줌
+ * - persist 가 정상 반환되면 해당 변경은 DB에 커밋된 것으로 간주
+ */
+public interface BalanceJournal {
+
+    // 엔진이 처음 다루는 회원의 잔액 적재 (회원이 없으면 empty)
+    OptionalLong loadBalance(Long memberId);
+
+    void persist(List<BalanceChange> changes);
+}
@@ -0,0 +1,9 @@
+package com.oowee.server.domain.point.engine;
+
+/**
+ * 잔액 변경 방식 (point.balance.mode)
+ */
+public enum BalanceMode {
+    LOCKING,  // 회원 행에 PESSIMISTIC_WRITE 락을 걸고 변경 (기본값)
+    ENGINE    // 메모리 밸런스 엔진이 스트라이프 단위로 변경 후 저널에 기록
+}
@@ -0,0 +1,66 @@
+package com.oowee.server.domain.point.engine;
+
+import com.oowee.server.domain.point.ledger.PointLedgerWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 밸런스 엔진 저널의 DB 구현
+ * - 스트라이프가 넘긴 변경 묶음을 트랜잭션 하나로 기록
+ * - 회원 잔액은 묶음 안의 마지막 값만 UPDATE, 포인트 내역은 한 줄씩 모두 기록
+ * - 잔액 소유권이 엔진에 있으므로 SELECT ... FOR UPDATE 없이 덮어씀
+ */
+@Component
+@ConditionalOnProperty(name = "point.balance.mode", havingValue = "ENGINE")
+public class JdbcBalanceJournal implements BalanceJournal {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PointLedgerWriter pointLedgerWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcBalanceJournal(
+            JdbcTemplate jdbcTemplate,
+            PointLedgerWriter pointLedgerWriter,
+            PlatformTransactionManager transactionManager) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.pointLedgerWriter = pointLedgerWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public OptionalLong loadBalance(Long memberId) {
+        List<Long> balances = jdbcTemplate.queryForList(
+                "SELECT current_points FROM member WHERE member_id = ?", Long.class, memberId);
+        return balances.isEmpty() ? OptionalLong.empty() : OptionalLong.of(balances.get(0));
+    }
+
+    @Override
+    public void persist(List<BalanceChange> changes) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> finalBalances = new LinkedHashMap<>();
+            for (BalanceChange change : changes) {
+                finalBalances.put(change.getMemberId(), change.getBalanceAfter());
+                pointLedgerWriter.append(change.getMemberId(), change.getDelta(), change.getType(),
+                        change.getBetAmount(), change.getPayoutAmount());
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = new ArrayList<>(finalBalances.size());
+            finalBalances.forEach((memberId, balance) -> args.add(new Object[]{balance, now, memberId}));
+
+            jdbcTemplate.batchUpdate("UPDATE member SET current_points = ?, updated_at = ? WHERE member_id = ?", args);
+        });
+    }
+}
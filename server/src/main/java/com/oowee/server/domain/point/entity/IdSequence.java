@@ -0,0 +1,25 @@
+package com.oowee.server.domain.point.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID 시퀀스 (시퀀스 이름별 다음 번호)
+ * - 테이블 생성은 ddl-auto 에 맡기고, 블록 예약/초기화는 LedgerIdAllocator 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "id_sequence")
+public class IdSequence {
+
+    @Id
+    @Column(length = 64)
+    private String sequenceName;
+
+    // 아직 나눠주지 않은 첫 번호
+    @Column(nullable = false)
+    private Long nextVal;
+}
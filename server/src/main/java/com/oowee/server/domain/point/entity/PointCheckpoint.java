@@ -0,0 +1,47 @@
+package com.oowee.server.domain.point.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 잔액 체크포인트
+ * - watermark 시각까지의 포인트 내역을 합산한 결과
+ * - 잔액 검증/분쟁 조회는 이 값 + watermark 이후 내역만 읽으면 됨
+ * - 늦게 커밋되어 합산 때 보이지 않았던 watermark 이전 내역은 history_count 와 개수를 비교해 찾아냄
+ * - 저장은 PointCheckpointService가 청크 단위 UPSERT로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_checkpoint")
+public class PointCheckpoint {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // watermark 시점의 잔액 (내역 합계)
+    @Column(nullable = false)
+    private Long balance;
+
+    // watermark 까지의 누적 적립/차감 합계
+    @Column(nullable = false)
+    private Long totalCredit;
+
+    @Column(nullable = false)
+    private Long totalDebit;
+
+    // 반영된 내역 수 (watermark 이전 내역 수가 이보다 많으면 늦게 커밋된 내역이 있는 것)
+    @Column(nullable = false)
+    private Long historyCount;
+
+    // 이 시각(포함)까지 생성된 내역이 반영됨
+    @Column(nullable = false)
+    private LocalDateTime watermark;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,36 @@
+package com.oowee.server.domain.point.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체크포인트 갱신 실행권 (작업 이름당 한 행)
+ * - 여러 인스턴스 중 lease 를 잡은 하나만 갱신하고, 청크를 커밋할 때마다 lease 를 연장
+ * - 실행 중인 서버가 멈추면 lease 가 지난 뒤 다른 인스턴스가 넘겨받음
+ * - 저장/조회는 PointCheckpointService 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_checkpoint_lease")
+public class PointCheckpointLease {
+
+    @Id
+    @Column(length = 50)
+    private String jobName;
+
+    // 실행 중인 인스턴스와 lease 만료 시각
+    @Column(length = 100)
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    // 마지막으로 끝까지 갱신한 시각 (다른 인스턴스가 바로 다시 돌지 않도록)
+    private LocalDateTime completedAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,65 @@
+package com.oowee.server.domain.point.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 소멸 작업 진행 상황 (실행일 x 회원 ID 구간)
+ * - 구간마다 한 작업자가 lease 를 잡고 처리, 청크를 커밋할 때마다 last_member_id 와 lease 를 함께 갱신
+ * - 서버가 중간에 멈추면 lease 가 지난 뒤 다른 작업자가 last_member_id 다음부터 이어서 처리
+ * - 저장/조회는 PointExpiryService 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(PointExpiryCheckpoint.Key.class)
+@Table(name = "point_expiry_checkpoint")
+public class PointExpiryCheckpoint {
+
+    @Id
+    private LocalDate runDate;
+
+    @Id
+    private Integer partitionNo;
+
+    // 이 구간의 회원 ID 범위 (rangeStart, rangeEnd]
+    @Column(nullable = false)
+    private Long rangeStart;
+
+    @Column(nullable = false)
+    private Long rangeEnd;
+
+    // 여기까지 처리됨 (다음 청크는 이 값 초과부터)
+    @Column(nullable = false)
+    private Long lastMemberId;
+
+    @Column(nullable = false)
+    private Long expiredMembers;
+
+    @Column(nullable = false)
+    private Long expiredPoints;
+
+    // 처리 중인 작업자와 lease 만료 시각
+    @Column(length = 100)
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime completedAt;
+
+    private LocalDateTime updatedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate runDate;
+        private Integer partitionNo;
+    }
+}
@@ -13,10 +13,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 @ToString(exclude = "member")
+@Table(name = "point_history", indexes = {
+        // 회원별 최신순 커서 조회용 인덱스
+        @Index(name = "idx_point_history_member_created", columnList = "member_id, created_at, point_history_id"),
+        // 리더보드 기간 순수익 적재용 (이번 주 GAME 내역만 범위 조회)
+        @Index(name = "idx_point_history_type_created", columnList = "type, created_at")
+})
 public class PointHistory {
 
+    // ID는 LedgerIdAllocator가 블록 단위로 미리 할당 (배치 INSERT를 위해 IDENTITY 사용 안 함)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "point_history_id")
     private Long id;
 
@@ -34,15 +40,15 @@ public class PointHistory {
     @Column(nullable = false)
     private PointType type;
 
+    // 게임 정산(GAME)일 때 베팅 금액과 지급 금액 (그 외에는 null)
+    private Long betAmount;
+
+    private Long payoutAmount;
+
     // 변동 날짜
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
-    @Builder
-    public PointHistory(Member member, Long amount, PointType type) {
-        this.member = member;
-        this.amount = amount;
-        this.type = type;
-    }
+    // 저장은 PointLedgerWriter가 JDBC 배치로 처리 (조회 전용 엔티티)
 }
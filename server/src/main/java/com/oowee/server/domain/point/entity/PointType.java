@@ -9,7 +9,10 @@ public enum PointType {
     CHARGE("충전"),
     USE("사용"),
     REWARD("획득"),
-    REFUND("환불");
+    REFUND("환불"),
+    EXPIRE("소멸"), // 유효기간이 지난 프로모션 포인트 차감 (PointExpiryService)
+    BET("베팅"),   // 멀티플레이 테이블 베팅 차감 (정산은 라운드가 끝난 뒤 GAME 으로)
+    GAME("게임");  // 게임 정산 (개인 게임: amount = 지급 - 베팅, 테이블: 베팅은 BET 으로 먼저 차감했으므로 amount = 지급)
 
     private final String description;
 }
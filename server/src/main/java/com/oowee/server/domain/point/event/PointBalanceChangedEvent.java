@@ -0,0 +1,23 @@
+package com.oowee.server.domain.point.event;
+
+import com.oowee.server.domain.point.entity.PointType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 잔액이 바뀌었을 때 발행되는 이벤트
+ * - 트랜잭션 안에서 발행되므로, 받는 쪽은 @TransactionalEventListener(AFTER_COMMIT)로 커밋 후에 처리
+ * - 트랜잭션 밖(밸런스 엔진 모드)에서는 저널 기록이 끝난 뒤 발행됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class PointBalanceChangedEvent {
+
+    private final Long memberId;
+    private final String email;
+    private final PointType type;
+    private final Long delta;          // 잔액 변동량 (부호 포함)
+    private final Long balance;        // 변경 후 잔액
+    private final Long betAmount;      // GAME 일 때만 사용
+    private final Long payoutAmount;   // GAME 일 때만 사용
+}
@@ -0,0 +1,23 @@
+package com.oowee.server.domain.point.ledger;
+
+import com.oowee.server.domain.point.entity.PointType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 DB에 쓰이지 않은 포인트 내역 한 줄
+ */
+@Getter
+@RequiredArgsConstructor
+public class LedgerEntry {
+
+    private final Long id;
+    private final Long memberId;
+    private final Long amount;
+    private final PointType type;
+    private final Long betAmount;      // GAME 일 때만 사용
+    private final Long payoutAmount;   // GAME 일 때만 사용
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,192 @@
+package com.oowee.server.domain.point.ledger;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 내역 ID 할당기 (pooled 방식)
+ * - IDENTITY 대신 시퀀스 테이블에서 ID 블록을 한 번에 예약해 메모리에서 나눠줌
+ * - ID를 미리 알 수 있어야 여러 행을 하나의 JDBC 배치로 INSERT 할 수 있음
+ * - 블록 예약은 전용 커넥션 풀의 짧은 트랜잭션으로 바로 커밋
+ *   (호출자는 이미 메인 풀 커넥션과 회원 행 락을 잡고 있으므로, 메인 풀에서 두 번째 커넥션을 기다리지 않게)
+ * - 현재 블록을 절반 넘게 쓰면 다음 블록을 백그라운드에서 미리 예약 (블록이 바뀔 때 DB 왕복을 기다리지 않음)
+ * - id_sequence 테이블은 IdSequence 엔티티로 생성 (런타임 DDL 없음)
+ * - 여러 줄을 쓸 호출자는 reserve(count) 로 행 락을 잡기 전에 필요한 만큼 미리 받아둘 수 있음
+ * - 다 쓰지 못한 블록의 ID는 버림 (빈 번호가 생겨도 정렬/페이지네이션에는 문제 없음)
+ */
+@Slf4j
+@Component
+public class LedgerIdAllocator {
+
+    private static final String SEQUENCE_NAME = "point_history";
+
+    private final HikariDataSource sequenceDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate sequenceTemplate;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ExecutorService prefetcher =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("ledger-id-prefetch").daemon().factory());
+
+    // 현재 예약된 블록 [next, limit) 과 미리 예약 중인 다음 블록의 시작 ID (lock 으로 보호)
+    private long next;
+    private long limit;
+    private CompletableFuture<Long> prefetched;
+    private boolean initialized;
+
+    public LedgerIdAllocator(
+            DataSourceProperties dataSourceProperties,
+            @Value("${point.ledger.id-block-size:100}") int blockSize) {
+
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("ID 블록 크기는 1 이상이어야 합니다.");
+        }
+
+        // 미리 예약(백그라운드 스레드 하나) + 블록보다 큰 reserve(count) 가 겹칠 수 있으므로 2개 (처음 예약할 때 연결)
+        this.sequenceDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.sequenceDataSource.setPoolName("ledger-id");
+        this.sequenceDataSource.setMaximumPoolSize(2);
+        this.sequenceDataSource.setMinimumIdle(0);
+
+        this.jdbcTemplate = new JdbcTemplate(sequenceDataSource);
+        this.sequenceTemplate = new TransactionTemplate(new DataSourceTransactionManager(sequenceDataSource));
+        this.blockSize = blockSize;
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                switchToNextBlock();
+            }
+            long id = next++;
+            prefetchIfLow();
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 연속된 ID count 개를 호출자 전용으로 예약하고 첫 ID 반환 ([start, start + count))
+     * 현재 블록에 남은 ID가 모자라면 남은 ID는 버리고 (미리 예약해 둔) 다음 블록에서 나눠줌
+     * 블록 크기보다 큰 요청만 count 개짜리 블록을 따로 예약
+     */
+    public long reserve(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("예약할 ID 개수는 1 이상이어야 합니다.");
+        }
+
+        lock.lock();
+        try {
+            if (count > blockSize) {
+                return reserveFromSequence(count);
+            }
+            if (limit - next < count) {
+                switchToNextBlock();
+            }
+            long start = next;
+            next += count;
+            prefetchIfLow();
+            return start;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 미리 예약한 블록이 있으면 그것으로, 없거나 실패했으면 지금 예약 (lock 안에서 호출)
+    private void switchToNextBlock() {
+        CompletableFuture<Long> block = prefetched;
+        prefetched = null;
+
+        Long start = null;
+        if (block != null) {
+            try {
+                start = block.join();
+            } catch (CompletionException e) {
+                log.warn("포인트 내역 ID 블록 미리 예약 실패, 다시 예약합니다: {}", e.getCause().getMessage());
+            }
+        }
+        if (start == null) {
+            start = reserveFromSequence(blockSize);
+        }
+
+        this.next = start;
+        this.limit = start + blockSize;
+    }
+
+    // 현재 블록을 절반 넘게 썼으면 다음 블록을 백그라운드에서 예약 (lock 안에서 호출)
+    private void prefetchIfLow() {
+        if (prefetched != null || limit - next > blockSize / 2) {
+            return;
+        }
+        try {
+            prefetched = CompletableFuture.supplyAsync(() -> reserveFromSequence(blockSize), prefetcher);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 -> 다음 블록은 필요할 때 바로 예약
+        }
+    }
+
+    // 시퀀스에서 size 개를 예약하고 첫 ID 반환 (호출자 스레드 또는 미리 예약 스레드)
+    private long reserveFromSequence(int size) {
+        ensureInitialized();
+
+        Long start = sequenceTemplate.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_sequence WHERE sequence_name = ? FOR UPDATE",
+                    Long.class, SEQUENCE_NAME);
+            jdbcTemplate.update(
+                    "UPDATE id_sequence SET next_val = ? WHERE sequence_name = ?",
+                    current + size, SEQUENCE_NAME);
+            return current;
+        });
+        return start;
+    }
+
+    private synchronized void ensureInitialized() {
+        if (!initialized) {
+            sequenceTemplate.executeWithoutResult(status -> initializeSequence());
+            initialized = true;
+        }
+    }
+
+    // 시퀀스 행이 없으면 기존 IDENTITY로 쌓인 내역 다음 번호부터 시작
+    private void initializeSequence() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM id_sequence WHERE sequence_name = ?", Integer.class, SEQUENCE_NAME);
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO id_sequence (sequence_name, next_val) "
+                    + "SELECT ?, COALESCE(MAX(point_history_id), 0) + 1 FROM point_history", SEQUENCE_NAME);
+            log.info("포인트 내역 ID 시퀀스를 초기화했습니다.");
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 초기화함
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        prefetcher.shutdownNow();
+        sequenceDataSource.close();
+    }
+}
@@ -0,0 +1,275 @@
+package com.oowee.server.domain.point.ledger;
+
+import com.oowee.server.domain.point.entity.PointType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 내역(원장) 기록기
+ * - 트랜잭션 안에서 쌓인 내역을 커밋 직전(beforeCommit)에 JDBC 배치 INSERT로 한 번에 기록
+ * - 같은 커넥션/트랜잭션에서 쓰기 때문에 잔액 변경과 함께 커밋되거나 함께 롤백됨 (커밋 시점 내구성 보장)
+ * - 아직 기록되지 않은 내역 수는 max-pending 으로 제한하고, 가득 차면 잠시 기다린 뒤 거절
+ * - 종료 시 새 기록을 막고, 진행 중인 트랜잭션의 내역이 모두 기록될 때까지 기다림
+ */
+@Slf4j
+@Component
+public class PointLedgerWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO point_history (point_history_id, member_id, amount, type, bet_amount, payout_amount, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerIdAllocator idAllocator;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long drainTimeoutMillis;
+
+    private final Semaphore capacity;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger openTransactions = new AtomicInteger();
+    private final Timer flushTimer;
+
+    // 종료 시 대기 중인 내역이 모두 끝났다는 신호
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Condition drained = drainLock.newCondition();
+
+    private volatile boolean running;
+
+    public PointLedgerWriter(
+            JdbcTemplate jdbcTemplate,
+            LedgerIdAllocator idAllocator,
+            MeterRegistry meterRegistry,
+            @Value("${point.ledger.batch-size:100}") int batchSize,
+            @Value("${point.ledger.max-pending:10000}") int maxPending,
+            @Value("${point.ledger.offer-timeout-ms:200}") long offerTimeoutMillis,
+            @Value("${point.ledger.drain-timeout-ms:10000}") long drainTimeoutMillis) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+        this.capacity = new Semaphore(maxPending);
+
+        Gauge.builder("point.ledger.pending", pending, AtomicInteger::get)
+                .description("커밋 대기 중인 포인트 내역 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("point.ledger.flush")
+                .description("포인트 내역 배치 INSERT 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션에 포인트 내역 한 줄 추가
+     * 실제 INSERT는 배치가 가득 차거나 커밋 직전에 일어남
+     */
+    public void append(Long memberId, Long amount, PointType type) {
+        append(memberId, amount, type, null, null);
+    }
+
+    /**
+     * 게임 정산처럼 베팅/지급 금액을 함께 남기는 내역 추가
+     */
+    public void append(Long memberId, Long amount, PointType type, Long betAmount, Long payoutAmount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("포인트 내역은 트랜잭션 안에서만 기록할 수 있습니다.");
+        }
+        if (!running) {
+            throw new IllegalStateException("서버가 종료 중이라 포인트 내역을 기록할 수 없습니다.");
+        }
+
+        acquireCapacity();
+
+        PendingBatch batch = currentBatch();
+        batch.reserved++;
+        long id = batch.nextId < batch.idLimit ? batch.nextId++ : idAllocator.nextId();
+        batch.entries.add(new LedgerEntry(
+                id, memberId, amount, type, betAmount, payoutAmount, LocalDateTime.now()));
+
+        if (batch.entries.size() >= batchSize) {
+            flush(batch.entries);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 startedAt(System.nanoTime) 부터 커밋까지 걸린 시간을 timer 에 기록 (롤백이면 기록 안 함)
+     * 트랜잭션마다 하나 등록해 두는 동기화에서 함께 처리 (호출마다 동기화 객체를 만들지 않음), 먼저 호출한 값만 사용
+     */
+    public void recordUntilCommit(Timer timer, long startedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        PendingBatch batch = currentBatch();
+        if (batch.commitTimer == null) {
+            batch.commitTimer = timer;
+            batch.commitTimerStartedAt = startedAt;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 기록할 내역 count 줄의 ID를 미리 예약
+     * 회원 행 락을 잡기 전에 부르면, 락을 잡은 동안에는 ID 블록 예약(DB 왕복)을 기다리지 않음 (남은 ID는 버림)
+     */
+    public void reserveIds(int count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("포인트 내역은 트랜잭션 안에서만 기록할 수 있습니다.");
+        }
+        if (count < 1) {
+            return;
+        }
+
+        PendingBatch batch = currentBatch();
+        batch.nextId = idAllocator.reserve(count);
+        batch.idLimit = batch.nextId + count;
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private void acquireCapacity() {
+        try {
+            if (!capacity.tryAcquire(offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("포인트 내역 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 내역 기록이 중단되었습니다.", e);
+        }
+        pending.incrementAndGet();
+    }
+
+    // 트랜잭션마다 하나의 버퍼를 묶어두고, 커밋 직전에 비움
+    private PendingBatch currentBatch() {
+        PendingBatch batch = (PendingBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch != null) {
+            return batch;
+        }
+
+        PendingBatch newBatch = new PendingBatch();
+        TransactionSynchronizationManager.bindResource(this, newBatch);
+        openTransactions.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                flush(newBatch.entries);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PointLedgerWriter.this);
+                if (status == STATUS_COMMITTED && newBatch.commitTimer != null) {
+                    newBatch.commitTimer.record(System.nanoTime() - newBatch.commitTimerStartedAt, TimeUnit.NANOSECONDS);
+                }
+                capacity.release(newBatch.reserved);
+                openTransactions.decrementAndGet();
+                if (pending.addAndGet(-newBatch.reserved) == 0 && !running) {
+                    signalDrained();
+                }
+            }
+        });
+        return newBatch;
+    }
+
+    private void flush(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        flushTimer.record(() -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, entries, batchSize, (ps, entry) -> {
+                ps.setLong(1, entry.getId());
+                ps.setLong(2, entry.getMemberId());
+                ps.setLong(3, entry.getAmount());
+                ps.setString(4, entry.getType().name());
+                ps.setObject(5, entry.getBetAmount(), Types.BIGINT);
+                ps.setObject(6, entry.getPayoutAmount(), Types.BIGINT);
+                ps.setTimestamp(7, Timestamp.valueOf(entry.getCreatedAt()));
+            });
+        });
+        entries.clear();
+    }
+
+    private void signalDrained() {
+        drainLock.lock();
+        try {
+            drained.signalAll();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 새 기록을 막고, 진행 중인 트랜잭션이 끝날 때까지 (drain-timeout 까지만) 대기
+    @Override
+    public void stop() {
+        running = false;
+
+        long remaining = TimeUnit.MILLISECONDS.toNanos(drainTimeoutMillis);
+        drainLock.lock();
+        try {
+            while (pending.get() > 0 && remaining > 0) {
+                remaining = drained.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            drainLock.unlock();
+        }
+
+        // 남은 내역은 각 트랜잭션이 커밋하면 함께 기록되고, 롤백되면 잔액 변경과 함께 사라짐
+        int abandoned = pending.get();
+        if (abandoned > 0) {
+            log.warn("종료 대기 시간({}ms) 안에 끝나지 않은 포인트 내역이 있습니다: 내역 {}건, 트랜잭션 {}개",
+                    drainTimeoutMillis, abandoned, openTransactions.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버가 요청을 모두 정리한 뒤에 멈추도록 늦게 종료
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private static class PendingBatch {
+        private final List<LedgerEntry> entries = new ArrayList<>();
+        private int reserved;
+        // reserveIds 로 미리 받은 ID [nextId, idLimit)
+        private long nextId;
+        private long idLimit;
+        // recordUntilCommit 으로 등록한 커밋까지의 소요 시간
+        private Timer commitTimer;
+        private long commitTimerStartedAt;
+    }
+}
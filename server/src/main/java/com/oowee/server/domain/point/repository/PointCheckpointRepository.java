@@ -0,0 +1,7 @@
+package com.oowee.server.domain.point.repository;
+
+import com.oowee.server.domain.point.entity.PointCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointCheckpointRepository extends JpaRepository<PointCheckpoint, Long> {
+}
@@ -1,13 +1,34 @@
 package com.oowee.server.domain.point.repository;
 
+import com.oowee.server.domain.point.dto.PointHistoryResponse;
 import com.oowee.server.domain.point.entity.PointHistory;
-import com.oowee.server.domain.member.entity.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
-    // 특정 회원의 포인트 내역 조회 (최신순)
-    List<PointHistory> findByMemberOrderByCreatedAtDesc(Member member);
+    // 특정 회원의 포인트 내역 첫 페이지 (최신순, DTO로 바로 조회)
+    @Query("select new com.oowee.server.domain.point.dto.PointHistoryResponse(" +
+            "h.id, h.amount, h.type, h.betAmount, h.payoutAmount, h.createdAt) " +
+            "from PointHistory h join h.member m " +
+            "where m.email = :email " +
+            "order by h.createdAt desc, h.id desc")
+    List<PointHistoryResponse> findPageByEmail(@Param("email") String email, Limit limit);
+
+    // 커서(createdAt, id) 이후 페이지 (idx_point_history_member_created 인덱스 범위 스캔)
+    @Query("select new com.oowee.server.domain.point.dto.PointHistoryResponse(" +
+            "h.id, h.amount, h.type, h.betAmount, h.payoutAmount, h.createdAt) " +
+            "from PointHistory h join h.member m " +
+            "where m.email = :email " +
+            "and (h.createdAt < :cursorAt or (h.createdAt = :cursorAt and h.id < :cursorId)) " +
+            "order by h.createdAt desc, h.id desc")
+    List<PointHistoryResponse> findPageByEmailBefore(@Param("email") String email,
+                                                     @Param("cursorAt") LocalDateTime cursorAt,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Limit limit);
 }
@@ -0,0 +1,80 @@
+package com.oowee.server.domain.point.service;
+
+import com.oowee.server.domain.member.dto.MemberBalance;
+import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.point.dto.BulkPayout;
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import com.oowee.server.domain.point.ledger.PointLedgerWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 회원 지급 일괄 정산 (멀티플레이 테이블)
+ * - 회원별 지급액을 합쳐 회원 ID 순으로 UPDATE 배치 한 번 (SELECT FOR UPDATE 없음, 락 순서 일정)
+ * - 베팅마다 GAME 내역 한 줄 (패배도 지급 0으로 남겨서 게임 통계에 반영)
+ * - 잔액 소유권이 DB에 있는 LOCKING 모드 전용, 호출하는 쪽의 트랜잭션 안에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkPayoutService {
+
+    private static final String CREDIT_SQL =
+            "UPDATE member SET current_points = current_points + ?, updated_at = ? WHERE member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberRepository memberRepository;
+    private final PointLedgerWriter pointLedgerWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void settle(List<BulkPayout> payouts) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("일괄 정산은 트랜잭션 안에서만 실행할 수 있습니다.");
+        }
+        if (payouts.isEmpty()) {
+            return;
+        }
+
+        // 1. 회원별 지급액 합계 (회원 ID 순)
+        Map<Long, Long> credits = new TreeMap<>();
+        for (BulkPayout payout : payouts) {
+            if (payout.getPayoutAmount() > 0) {
+                credits.merge(payout.getMemberId(), payout.getPayoutAmount(), Long::sum);
+            }
+        }
+
+        // 2. 잔액 일괄 반영
+        if (!credits.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = new ArrayList<>(credits.size());
+            credits.forEach((memberId, amount) -> args.add(new Object[]{amount, now, memberId}));
+            jdbcTemplate.batchUpdate(CREDIT_SQL, args);
+        }
+
+        // 3. 반영된 잔액 조회 (방금 UPDATE 한 행이라 대기 없음)
+        Map<Long, Long> balances = memberRepository.findBalancesByIds(
+                        payouts.stream().map(BulkPayout::getMemberId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(MemberBalance::getId, MemberBalance::getCurrentPoints));
+
+        // 4. 내역 + 잔액 변경 이벤트 (회원당 베팅이 여러 건이면 이벤트 잔액은 최종 잔액)
+        for (BulkPayout payout : payouts) {
+            pointLedgerWriter.append(payout.getMemberId(), payout.getPayoutAmount(), PointType.GAME,
+                    payout.getBetAmount(), payout.getPayoutAmount());
+            eventPublisher.publishEvent(new PointBalanceChangedEvent(payout.getMemberId(), payout.getEmail(),
+                    PointType.GAME, payout.getPayoutAmount(), balances.get(payout.getMemberId()),
+                    payout.getBetAmount(), payout.getPayoutAmount()));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.oowee.server.domain.point.service;
+
+/**
+ * 동시에 진행 중인 내역 내보내기가 너무 많음 (503 + Retry-After)
+ */
+public class HistoryExportBusyException extends RuntimeException {
+
+    public HistoryExportBusyException(String message) {
+        super(message);
+    }
+}
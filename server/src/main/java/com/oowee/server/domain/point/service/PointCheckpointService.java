@@ -0,0 +1,292 @@
+package com.oowee.server.domain.point.service;
+
+import com.oowee.server.domain.member.dto.MemberBalance;
+import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.point.dto.BalanceProofResponse;
+import com.oowee.server.domain.point.entity.PointCheckpoint;
+import com.oowee.server.domain.point.repository.PointCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 포인트 내역 체크포인트
+ * - 주기적으로 회원을 ID 순서대로 청크 단위로 돌면서, 이전 체크포인트 이후 내역만 더해 새 체크포인트를 UPSERT
+ * - 집계는 잠금 없는 일반 SELECT로 하고, 쓰기는 point_checkpoint 테이블에만 하므로 member 행은 잠그지 않음
+ * - 커밋이 늦게 된 내역을 줄이도록 settle-lag 만큼 지난 내역까지만 반영
+ * - created_at 은 커밋 순서와 같지 않으므로, 그래도 늦게 커밋된 watermark 이전 내역은
+ *   체크포인트에 남긴 내역 수(history_count)와 지금 개수를 비교해 찾고, 그 회원은 처음부터 다시 합산
+ *   (개수 비교는 (member_id, created_at) 인덱스만 읽음)
+ * - 여러 인스턴스 중 point_checkpoint_lease 의 lease 를 잡은 하나만 실행 (청크마다 같은 트랜잭션에서 연장)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointCheckpointService {
+
+    private static final String CHUNK_MEMBER_IDS_SQL =
+            "SELECT member_id FROM member WHERE member_id > ? ORDER BY member_id LIMIT ?";
+
+    // 청크 안의 회원별로 (이전 체크포인트 + 그 이후 내역) 집계
+    private static final String CHUNK_DELTA_SQL =
+            "SELECT h.member_id, "
+                    + "COALESCE(MAX(c.balance), 0) + SUM(h.amount) AS balance, "
+                    + "COALESCE(MAX(c.total_credit), 0) + SUM(CASE WHEN h.amount > 0 THEN h.amount ELSE 0 END) AS total_credit, "
+                    + "COALESCE(MAX(c.total_debit), 0) + SUM(CASE WHEN h.amount < 0 THEN -h.amount ELSE 0 END) AS total_debit, "
+                    + "COALESCE(MAX(c.history_count), 0) + COUNT(*) AS history_count "
+                    + "FROM point_history h "
+                    + "LEFT JOIN point_checkpoint c ON c.member_id = h.member_id "
+                    + "WHERE h.member_id > ? AND h.member_id <= ? "
+                    + "AND h.created_at <= ? "
+                    + "AND (c.watermark IS NULL OR h.created_at > c.watermark) "
+                    + "GROUP BY h.member_id";
+
+    // 체크포인트 이후에 커밋된 watermark 이전 내역이 있는 회원 (반영한 개수보다 지금 개수가 많음)
+    private static final String LATE_MEMBER_IDS_SQL =
+            "SELECT c.member_id FROM point_checkpoint c "
+                    + "WHERE c.member_id > ? AND c.member_id <= ? "
+                    + "AND c.history_count <> (SELECT COUNT(*) FROM point_history h "
+                    + "WHERE h.member_id = c.member_id AND h.created_at <= c.watermark)";
+
+    // 한 회원의 watermark 까지 전체 내역 합산 (늦은 내역이 있는 회원만)
+    private static final String FULL_SQL =
+            "SELECT member_id, "
+                    + "SUM(amount) AS balance, "
+                    + "SUM(CASE WHEN amount > 0 THEN amount ELSE 0 END) AS total_credit, "
+                    + "SUM(CASE WHEN amount < 0 THEN -amount ELSE 0 END) AS total_debit, "
+                    + "COUNT(*) AS history_count "
+                    + "FROM point_history WHERE member_id = ? AND created_at <= ? "
+                    + "GROUP BY member_id";
+
+    // VALUES(col) 은 MySQL 8 에서 deprecated 경고만 나고, H2(MySQL 모드)는 행 별칭(AS new)을 지원하지 않음
+    private static final String UPSERT_SQL =
+            "INSERT INTO point_checkpoint "
+                    + "(member_id, balance, total_credit, total_debit, history_count, watermark, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE balance = VALUES(balance), total_credit = VALUES(total_credit), "
+                    + "total_debit = VALUES(total_debit), history_count = VALUES(history_count), "
+                    + "watermark = VALUES(watermark), updated_at = VALUES(updated_at)";
+
+    private static final String JOB_NAME = "point_checkpoint";
+
+    private static final String INSERT_LEASE_SQL =
+            "INSERT IGNORE INTO point_checkpoint_lease (job_name, updated_at) VALUES (?, ?)";
+
+    // 실행 중인 인스턴스가 없고(lease 만료 포함), 최근 주기 안에 끝난 실행이 없을 때만
+    private static final String CLAIM_SQL =
+            "UPDATE point_checkpoint_lease SET owner = ?, lease_until = ?, updated_at = ? "
+                    + "WHERE job_name = ? AND (owner IS NULL OR lease_until < ?) "
+                    + "AND (completed_at IS NULL OR completed_at < ?)";
+
+    // 청크마다 연장 (lease 를 잃었으면 0행 -> 청크 롤백)
+    private static final String EXTEND_SQL =
+            "UPDATE point_checkpoint_lease SET lease_until = ?, updated_at = ? WHERE job_name = ? AND owner = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE point_checkpoint_lease SET owner = NULL, lease_until = NULL, completed_at = ?, updated_at = ? "
+                    + "WHERE job_name = ? AND owner = ?";
+
+    private static final String ABANDON_SQL =
+            "UPDATE point_checkpoint_lease SET owner = NULL, lease_until = NULL, updated_at = ? "
+                    + "WHERE job_name = ? AND owner = ?";
+
+    private static final String DELTA_SINCE_SQL =
+            "SELECT COALESCE(SUM(amount), 0) FROM point_history WHERE member_id = ? AND created_at > ?";
+
+    private static final String COUNT_UNTIL_SQL =
+            "SELECT COUNT(*) FROM point_history WHERE member_id = ? AND created_at <= ?";
+
+    private static final String SUM_UNTIL_SQL =
+            "SELECT COALESCE(SUM(amount), 0) FROM point_history WHERE member_id = ? AND created_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberRepository memberRepository;
+    private final PointCheckpointRepository pointCheckpointRepository;
+
+    private final String instanceId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Value("${point.checkpoint.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${point.checkpoint.settle-lag-seconds:60}")
+    private long settleLagSeconds;
+
+    @Value("${point.checkpoint.interval-ms:600000}")
+    private long intervalMillis;
+
+    @Value("${point.checkpoint.lease-seconds:120}")
+    private long leaseSeconds;
+
+    /**
+     * 전체 회원 체크포인트 갱신 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${point.checkpoint.interval-ms:600000}",
+            initialDelayString = "${point.checkpoint.initial-delay-ms:60000}")
+    public void runCheckpoint() {
+        if (!claim()) {
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            LocalDateTime watermark = LocalDateTime.now().minusSeconds(settleLagSeconds);
+            long lastMemberId = 0L;
+            int updatedMembers = 0;
+
+            while (true) {
+                List<Long> memberIds = jdbcTemplate.queryForList(
+                        CHUNK_MEMBER_IDS_SQL, Long.class, lastMemberId, chunkSize);
+                if (memberIds.isEmpty()) {
+                    break;
+                }
+
+                long upperMemberId = memberIds.get(memberIds.size() - 1);
+                updatedMembers += checkpointChunk(lastMemberId, upperMemberId, watermark);
+                lastMemberId = upperMemberId;
+            }
+
+            completed = true;
+            log.info("포인트 체크포인트 갱신 완료: watermark={}, 갱신 회원 수={}", watermark, updatedMembers);
+        } finally {
+            release(completed);
+        }
+    }
+
+    // 실행권 획득 (다른 인스턴스가 실행 중이거나 이번 주기에 이미 끝냈으면 false)
+    private boolean claim() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        jdbcTemplate.update(INSERT_LEASE_SQL, JOB_NAME, nowTs);
+
+        // 주기보다 조금 일찍 끝난 실행은 같은 주기로 봄 (인스턴스마다 시작 시각이 다르므로 절반만 비움)
+        Timestamp recentlyCompleted = Timestamp.valueOf(now.minus(Duration.ofMillis(intervalMillis / 2)));
+        return jdbcTemplate.update(CLAIM_SQL, instanceId, Timestamp.valueOf(now.plusSeconds(leaseSeconds)),
+                nowTs, JOB_NAME, nowTs, recentlyCompleted) == 1;
+    }
+
+    // 중간에 실패했으면 완료 시각은 남기지 않음 (다음 주기에 어느 인스턴스든 다시 실행)
+    private void release(boolean completed) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            if (completed) {
+                jdbcTemplate.update(RELEASE_SQL, now, now, JOB_NAME, instanceId);
+            } else {
+                jdbcTemplate.update(ABANDON_SQL, now, JOB_NAME, instanceId);
+            }
+        } catch (RuntimeException e) {
+            // lease 만료 후 다른 인스턴스가 넘겨받음
+            log.warn("포인트 체크포인트 실행권 반납 실패: {}", e.getMessage());
+        }
+    }
+
+    // (fromMemberId, toMemberId] 범위 회원의 체크포인트를 짧은 트랜잭션 하나로 갱신
+    private int checkpointChunk(long fromMemberId, long toMemberId, LocalDateTime watermark) {
+        Integer updated = transactionTemplate.execute(status -> {
+            Timestamp watermarkTs = Timestamp.valueOf(watermark);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            // 같은 트랜잭션(같은 스냅샷)에서 늦은 내역 확인과 증분 집계를 함께 읽음
+            List<Long> lateMemberIds = jdbcTemplate.queryForList(
+                    LATE_MEMBER_IDS_SQL, Long.class, fromMemberId, toMemberId);
+
+            Map<Long, Object[]> rows = new LinkedHashMap<>();
+            RowCallbackHandler collect = rs -> rows.put(rs.getLong("member_id"), new Object[]{
+                    rs.getLong("member_id"),
+                    rs.getLong("balance"),
+                    rs.getLong("total_credit"),
+                    rs.getLong("total_debit"),
+                    rs.getLong("history_count"),
+                    watermarkTs,
+                    now
+            });
+            jdbcTemplate.query(CHUNK_DELTA_SQL, collect, fromMemberId, toMemberId, watermarkTs);
+
+            // 늦은 내역이 있는 회원은 증분 대신 처음부터 다시 합산한 값으로 덮어씀
+            for (Long memberId : lateMemberIds) {
+                jdbcTemplate.query(FULL_SQL, collect, memberId, watermarkTs);
+            }
+            if (!lateMemberIds.isEmpty()) {
+                log.warn("체크포인트 이후에 커밋된 내역이 있어 다시 합산한 회원: {}", lateMemberIds);
+            }
+
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(rows.values()));
+            }
+
+            // lease 연장 (그 사이 다른 인스턴스가 넘겨받았으면 이 청크는 롤백하고 중단)
+            if (jdbcTemplate.update(EXTEND_SQL, Timestamp.valueOf(LocalDateTime.now().plusSeconds(leaseSeconds)),
+                    now, JOB_NAME, instanceId) == 0) {
+                throw new IllegalStateException("포인트 체크포인트 실행권을 잃었습니다.");
+            }
+            return rows.size();
+        });
+        return updated == null ? 0 : updated;
+    }
+
+    /**
+     * 잔액 검증: 체크포인트 + 이후 내역 합계를 회원 테이블 잔액과 비교
+     * 체크포인트 이후에 커밋된 watermark 이전 내역이 있으면 체크포인트 잔액 대신 watermark 까지 다시 합산
+     */
+    @Transactional(readOnly = true)
+    public BalanceProofResponse proveBalance(String email) {
+        MemberBalance member = memberRepository.findBalanceByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+
+        PointCheckpoint checkpoint = pointCheckpointRepository.findById(member.getId()).orElse(null);
+        long checkpointBalance = checkpoint != null ? checkpoint.getBalance() : 0L;
+        LocalDateTime checkpointAt = checkpoint != null ? checkpoint.getWatermark() : null;
+
+        long lateHistoryCount = 0L;
+        if (checkpoint != null) {
+            Timestamp watermarkTs = Timestamp.valueOf(checkpointAt);
+            Long settled = jdbcTemplate.queryForObject(COUNT_UNTIL_SQL, Long.class, member.getId(), watermarkTs);
+            lateHistoryCount = (settled == null ? 0L : settled) - checkpoint.getHistoryCount();
+            if (lateHistoryCount != 0) {
+                Long sum = jdbcTemplate.queryForObject(SUM_UNTIL_SQL, Long.class, member.getId(), watermarkTs);
+                checkpointBalance = sum == null ? 0L : sum;
+            }
+        }
+
+        Long delta = jdbcTemplate.queryForObject(DELTA_SINCE_SQL, Long.class,
+                member.getId(),
+                Timestamp.valueOf(checkpointAt != null ? checkpointAt : LocalDateTime.of(1970, 1, 1, 0, 0)));
+        long ledgerBalance = checkpointBalance + (delta == null ? 0L : delta);
+
+        return BalanceProofResponse.builder()
+                .memberId(member.getId())
+                .checkpointBalance(checkpointBalance)
+                .checkpointAt(checkpointAt)
+                .lateHistoryCount(lateHistoryCount)
+                .deltaSinceCheckpoint(delta)
+                .ledgerBalance(ledgerBalance)
+                .currentPoints(member.getCurrentPoints())
+                .matched(ledgerBalance == member.getCurrentPoints())
+                .build();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
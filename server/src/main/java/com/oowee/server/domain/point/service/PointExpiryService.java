@@ -0,0 +1,482 @@
+package com.oowee.server.domain.point.service;
+
+import com.oowee.server.domain.point.engine.BalanceMode;
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import com.oowee.server.domain.point.ledger.PointLedgerWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 프로모션 포인트 소멸 (하루 한 번)
+ * - 유효기간(validity-days)이 지난 프로모션 적립(types) 중 아직 쓰지 않은 금액을 EXPIRE 내역으로 차감
+ * - 사용 순서는 선입선출: 종류와 상관없이 모든 적립(양수 내역)을 오래된 순(created_at, point_history_id)으로 쌓고
+ *   사용(EXPIRE 가 아닌 음수 내역)은 가장 오래된 적립부터 차감, 이전 소멸(EXPIRE)은 가장 오래된 프로모션 적립부터 차감
+ *   -> 소멸액 = 남은 적립 중 기준일 이전 프로모션 적립 합계 (현재 잔액 이하)
+ *   -> 예: 충전 10,000 -> 프로모션 1,000 -> 사용 1,000 이면 사용은 충전분에서 나가므로 프로모션 1,000 이 소멸
+ * - 사용 내역의 범위는 청크 트랜잭션에서 잔액을 읽은 시점까지 (같은 스냅샷에서 잔액과 내역을 읽음)
+ *   -> 그 뒤의 사용/충전은 조건부 UPDATE 에서 걸러지고 다음 실행에서 다시 계산
+ * - 회원 ID 구간(partitions)을 작업자(workers)가 나눠 맡고, 구간 안에서는 회원 ID 순서로 청크 단위 처리
+ * - 청크마다 짧은 트랜잭션 하나: 잠금 없는 집계 SELECT -> 조건부 UPDATE(집계 때 본 잔액 그대로일 때만) -> 내역/진행 상황 기록
+ *   -> 집계 이후 잔액이 바뀐 회원은 건너뛰고 다음 실행에서 다시 계산, 실행 중인 포인트 사용을 오래 막지 않음
+ * - 진행 상황은 point_expiry_checkpoint 에 청크와 같은 트랜잭션으로 기록 -> 재시작하면 이어서, 여러 인스턴스가 나눠서 처리
+ * - 이미 소멸된 금액을 빼고 계산하므로 같은 구간을 다시 처리해도 두 번 차감되지 않음
+ * - 잔액 소유권이 DB에 있는 LOCKING 모드 전용
+ */
+@Slf4j
+@Service
+public class PointExpiryService {
+
+    private static final String MAX_MEMBER_ID_SQL = "SELECT COALESCE(MAX(member_id), 0) FROM member";
+
+    private static final String INSERT_PARTITION_SQL_PREFIX =
+            "INSERT IGNORE INTO point_expiry_checkpoint "
+                    + "(run_date, partition_no, range_start, range_end, last_member_id, expired_members, expired_points, updated_at) "
+                    + "VALUES ";
+
+    private static final String CLAIMABLE_SQL =
+            "SELECT partition_no FROM point_expiry_checkpoint "
+                    + "WHERE run_date = ? AND completed_at IS NULL AND (owner IS NULL OR lease_until < ?) "
+                    + "ORDER BY partition_no";
+
+    private static final String CLAIM_SQL =
+            "UPDATE point_expiry_checkpoint SET owner = ?, lease_until = ?, updated_at = ? "
+                    + "WHERE run_date = ? AND partition_no = ? AND completed_at IS NULL "
+                    + "AND (owner IS NULL OR lease_until < ?)";
+
+    private static final String FIND_PARTITION_SQL =
+            "SELECT last_member_id, range_end FROM point_expiry_checkpoint WHERE run_date = ? AND partition_no = ?";
+
+    private static final String CHUNK_MEMBER_IDS_SQL =
+            "SELECT member_id FROM member WHERE member_id > ? AND member_id <= ? ORDER BY member_id LIMIT ?";
+
+    // 잔액이 집계 때와 같을 때만 차감 (그 사이 사용/충전이 있었으면 0행)
+    private static final String EXPIRE_SQL =
+            "UPDATE member SET current_points = current_points - ?, updated_at = ? "
+                    + "WHERE member_id = ? AND current_points = ?";
+
+    // 청크 진행 기록 (lease 를 잃었으면 0행 -> 청크 롤백)
+    private static final String ADVANCE_SQL =
+            "UPDATE point_expiry_checkpoint SET last_member_id = ?, expired_members = expired_members + ?, "
+                    + "expired_points = expired_points + ?, lease_until = ?, updated_at = ? "
+                    + "WHERE run_date = ? AND partition_no = ? AND owner = ?";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE point_expiry_checkpoint SET completed_at = ?, owner = NULL, lease_until = NULL, updated_at = ? "
+                    + "WHERE run_date = ? AND partition_no = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PointLedgerWriter pointLedgerWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final BalanceMode balanceMode;
+    private final int validityDays;
+    private final int chunkSize;
+    private final int workers;
+    private final int partitions;
+    private final long leaseSeconds;
+
+    // 청크 후보 SQL (프로모션 종류는 설정에서 읽은 PointType 이름만 들어감)
+    private final String candidatesSql;
+    private final Set<String> promotionalTypes;
+    private final String instanceId;
+    private final AtomicBoolean inProgress = new AtomicBoolean();
+
+    private final Counter expiredMembers;
+    private final Counter expiredPoints;
+    private final Counter skippedMembers;
+
+    public PointExpiryService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PointLedgerWriter pointLedgerWriter,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${point.balance.mode:LOCKING}") BalanceMode balanceMode,
+            @Value("${point.expiry.enabled:false}") boolean enabled,
+            @Value("${point.expiry.types:REWARD}") List<PointType> types,
+            @Value("${point.expiry.validity-days:365}") int validityDays,
+            @Value("${point.expiry.chunk-size:200}") int chunkSize,
+            @Value("${point.expiry.workers:4}") int workers,
+            @Value("${point.expiry.partitions:16}") int partitions,
+            @Value("${point.expiry.lease-seconds:120}") long leaseSeconds) {
+
+        if (types.isEmpty() || types.contains(PointType.EXPIRE)) {
+            throw new IllegalArgumentException("소멸 대상 포인트 종류 설정이 올바르지 않습니다: " + types);
+        }
+        if (chunkSize < 1 || workers < 1 || partitions < 1 || validityDays < 1) {
+            throw new IllegalArgumentException("포인트 소멸 설정값은 1 이상이어야 합니다.");
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.pointLedgerWriter = pointLedgerWriter;
+        this.eventPublisher = eventPublisher;
+        this.balanceMode = balanceMode;
+        this.enabled = enabled;
+        this.validityDays = validityDays;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+        this.partitions = partitions;
+        this.leaseSeconds = leaseSeconds;
+        this.candidatesSql = candidatesSql(types);
+        this.promotionalTypes = types.stream().map(PointType::name).collect(Collectors.toUnmodifiableSet());
+        this.instanceId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        this.expiredMembers = Counter.builder("point.expiry.members").tag("result", "expired")
+                .description("포인트 소멸 처리 회원 수").register(meterRegistry);
+        this.skippedMembers = Counter.builder("point.expiry.members").tag("result", "skipped")
+                .description("포인트 소멸 처리 회원 수").register(meterRegistry);
+        this.expiredPoints = Counter.builder("point.expiry.points")
+                .description("소멸된 포인트 합계").register(meterRegistry);
+    }
+
+    // 소멸 후보 회원 (청크 (from, to] 범위)
+    // 기준일 이전 프로모션 적립 - 이미 소멸된 합계 (사용을 빼기 전의 상한)가 양수이고 잔액이 있는 회원만
+    private static String candidatesSql(List<PointType> types) {
+        String promotional = types.stream().distinct()
+                .map(type -> "'" + type.name() + "'")
+                .collect(Collectors.joining(", "));
+
+        return "SELECT m.member_id, m.email, m.current_points FROM ("
+                + "SELECT member_id, "
+                + "SUM(CASE WHEN type IN (" + promotional + ") AND created_at <= ? THEN amount ELSE 0 END) "
+                + "+ SUM(CASE WHEN type = 'EXPIRE' THEN amount ELSE 0 END) AS upper_bound "
+                + "FROM point_history WHERE member_id > ? AND member_id <= ? "
+                + "GROUP BY member_id"
+                + ") a JOIN member m ON m.member_id = a.member_id "
+                + "WHERE a.upper_bound > 0 AND m.current_points > 0 "
+                + "ORDER BY m.member_id";
+    }
+
+    // 후보 회원의 전체 내역 (회원별 인덱스 순서대로, 오래된 순)
+    private static String historySql(int members) {
+        return "SELECT member_id, amount, type, created_at FROM point_history WHERE member_id IN ("
+                + String.join(", ", Collections.nCopies(members, "?")) + ") "
+                + "ORDER BY member_id, created_at, point_history_id";
+    }
+
+    /**
+     * 오늘 실행분 처리 (이미 끝난 구간은 건너뛰고, 중단된 구간은 이어서)
+     */
+    @Scheduled(cron = "${point.expiry.cron:0 0 4 * * *}")
+    public void runExpiry() {
+        if (!enabled) {
+            return;
+        }
+        if (balanceMode != BalanceMode.LOCKING) {
+            log.warn("포인트 소멸은 LOCKING 모드에서만 실행합니다. (현재: {})", balanceMode);
+            return;
+        }
+        if (!inProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            LocalDate runDate = LocalDate.now();
+            LocalDateTime cutoff = runDate.atStartOfDay().minusDays(validityDays);
+            createPartitions(runDate);
+
+            try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("point-expiry-", 0).factory())) {
+                for (int i = 0; i < workers; i++) {
+                    String owner = instanceId + "-" + i;
+                    executor.execute(() -> work(runDate, cutoff, owner));
+                }
+            }
+
+            log.info("포인트 소멸 실행 종료: runDate={}, cutoff={}", runDate, cutoff);
+        } finally {
+            inProgress.set(false);
+        }
+    }
+
+    // 실행일의 회원 ID 구간 생성 (한 문장으로 넣어서 여러 인스턴스가 동시에 만들어도 한쪽 구간만 남음)
+    private void createPartitions(LocalDate runDate) {
+        Long maxMemberId = jdbcTemplate.queryForObject(MAX_MEMBER_ID_SQL, Long.class);
+        long size = Math.max(1L, ((maxMemberId == null ? 0L : maxMemberId) + partitions - 1) / partitions);
+
+        Date date = Date.valueOf(runDate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        StringBuilder sql = new StringBuilder(INSERT_PARTITION_SQL_PREFIX);
+        List<Object> args = new ArrayList<>(partitions * 6);
+        for (int p = 0; p < partitions; p++) {
+            long start = p * size;
+            // 마지막 구간은 끝을 열어 둠 (실행 중에 가입한 회원 포함)
+            long end = p == partitions - 1 ? Long.MAX_VALUE : start + size;
+            sql.append(p == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, 0, 0, ?)");
+            args.addAll(Arrays.asList(date, p, start, end, start, now));
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // 남은 구간을 하나씩 맡아서 처리 (맡을 구간이 없으면 종료)
+    private void work(LocalDate runDate, LocalDateTime cutoff, String owner) {
+        try {
+            Integer partition;
+            while ((partition = claim(runDate, owner)) != null) {
+                processPartition(runDate, partition, cutoff, owner);
+            }
+        } catch (RuntimeException e) {
+            // lease 가 끝나면 다른 작업자/다음 실행이 이어서 처리
+            log.error("포인트 소멸 작업 실패: owner={}", owner, e);
+        }
+    }
+
+    private Integer claim(LocalDate runDate, String owner) {
+        Date date = Date.valueOf(runDate);
+        LocalDateTime now = LocalDateTime.now();
+        for (Integer partition : jdbcTemplate.queryForList(
+                CLAIMABLE_SQL, Integer.class, date, Timestamp.valueOf(now))) {
+            int claimed = jdbcTemplate.update(CLAIM_SQL, owner, Timestamp.valueOf(now.plusSeconds(leaseSeconds)),
+                    Timestamp.valueOf(now), date, partition, Timestamp.valueOf(now));
+            if (claimed == 1) {
+                return partition;
+            }
+        }
+        return null;
+    }
+
+    private void processPartition(LocalDate runDate, int partition, LocalDateTime cutoff, String owner) {
+        long[] progress = jdbcTemplate.queryForObject(FIND_PARTITION_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("last_member_id"), rs.getLong("range_end")},
+                Date.valueOf(runDate), partition);
+
+        long lastMemberId = progress[0];
+        long rangeEnd = progress[1];
+        long members = 0;
+        long points = 0;
+
+        while (true) {
+            ChunkResult result = expireChunk(runDate, partition, lastMemberId, rangeEnd, cutoff, owner);
+            if (result == null) {
+                break;
+            }
+            lastMemberId = result.lastMemberId;
+            members += result.members;
+            points += result.points;
+        }
+
+        log.info("포인트 소멸 구간 완료: runDate={}, partition={}, 회원 수={}, 소멸 포인트={}",
+                runDate, partition, members, points);
+    }
+
+    // (fromMemberId, 다음 chunkSize 명] 처리, 구간이 끝났으면 완료 처리 후 null
+    private ChunkResult expireChunk(LocalDate runDate, int partition, long fromMemberId, long rangeEnd,
+                                    LocalDateTime cutoff, String owner) {
+        return transactionTemplate.execute(status -> {
+            Date date = Date.valueOf(runDate);
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp nowTs = Timestamp.valueOf(now);
+
+            // 1. 다음 청크 회원 ID (키셋)
+            List<Long> memberIds = jdbcTemplate.queryForList(
+                    CHUNK_MEMBER_IDS_SQL, Long.class, fromMemberId, rangeEnd, chunkSize);
+            if (memberIds.isEmpty()) {
+                if (jdbcTemplate.update(COMPLETE_SQL, nowTs, nowTs, date, partition, owner) == 0) {
+                    throw new IllegalStateException("포인트 소멸 구간의 lease 를 잃었습니다: partition=" + partition);
+                }
+                return null;
+            }
+            long toMemberId = memberIds.get(memberIds.size() - 1);
+
+            // 2. 소멸 금액 집계 (잠금 없는 SELECT, 후보 회원의 내역을 선입선출로 다시 계산)
+            List<Expirable> expirables = findExpirables(fromMemberId, toMemberId, cutoff);
+
+            // 3. 내역 ID를 청크 분량만큼 먼저 예약 (회원 행 락을 잡은 채로 ID 블록 예약을 기다리지 않게)
+            pointLedgerWriter.reserveIds(expirables.size());
+
+            // 4. 회원 ID 순서로 차감 (잔액보다 많이 빼지 않음) + 내역 + 이벤트
+            long members = 0;
+            long points = 0;
+            for (Expirable expirable : expirables) {
+                long amount = Math.min(expirable.expirable, expirable.balance);
+                if (jdbcTemplate.update(EXPIRE_SQL, amount, nowTs, expirable.memberId, expirable.balance) == 0) {
+                    skippedMembers.increment();
+                    continue;
+                }
+
+                long balance = expirable.balance - amount;
+                pointLedgerWriter.append(expirable.memberId, -amount, PointType.EXPIRE);
+                eventPublisher.publishEvent(new PointBalanceChangedEvent(expirable.memberId, expirable.email,
+                        PointType.EXPIRE, -amount, balance, null, null));
+                members++;
+                points += amount;
+            }
+
+            // 5. 진행 상황 (같은 트랜잭션, lease 연장)
+            if (jdbcTemplate.update(ADVANCE_SQL, toMemberId, members, points,
+                    Timestamp.valueOf(now.plusSeconds(leaseSeconds)), nowTs, date, partition, owner) == 0) {
+                throw new IllegalStateException("포인트 소멸 구간의 lease 를 잃었습니다: partition=" + partition);
+            }
+
+            // 커밋된 뒤에만 집계되도록 (롤백되면 다시 처리)
+            long committedMembers = members;
+            long committedPoints = points;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    expiredMembers.increment(committedMembers);
+                    expiredPoints.increment(committedPoints);
+                }
+            });
+            return new ChunkResult(toMemberId, members, points);
+        });
+    }
+
+    private List<Expirable> findExpirables(long fromMemberId, long toMemberId, LocalDateTime cutoff) {
+        Map<Long, Candidate> candidates = new LinkedHashMap<>();
+        jdbcTemplate.query(candidatesSql, (RowCallbackHandler) rs -> candidates.put(rs.getLong("member_id"),
+                        new Candidate(rs.getString("email"), rs.getLong("current_points"))),
+                Timestamp.valueOf(cutoff), fromMemberId, toMemberId);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, FifoCredits> ledgers = new HashMap<>();
+        jdbcTemplate.query(historySql(candidates.size()), (RowCallbackHandler) rs -> {
+            FifoCredits credits = ledgers.computeIfAbsent(rs.getLong("member_id"), id -> new FifoCredits());
+            long amount = rs.getLong("amount");
+            String type = rs.getString("type");
+            if (PointType.EXPIRE.name().equals(type)) {
+                credits.expire(-amount);
+            } else if (amount < 0) {
+                credits.spend(-amount);
+            } else if (amount > 0) {
+                credits.add(amount, promotionalTypes.contains(type),
+                        rs.getObject("created_at", LocalDateTime.class));
+            }
+        }, candidates.keySet().toArray());
+
+        List<Expirable> expirables = new ArrayList<>();
+        candidates.forEach((memberId, candidate) -> {
+            FifoCredits credits = ledgers.get(memberId);
+            long expirable = credits == null ? 0L : credits.expirable(cutoff);
+            if (expirable > 0) {
+                expirables.add(new Expirable(memberId, candidate.email, candidate.balance, expirable));
+            }
+        });
+        return expirables;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    private record Candidate(String email, long balance) {
+    }
+
+    private record Expirable(long memberId, String email, long balance, long expirable) {
+    }
+
+    /**
+     * 회원 한 명의 남은 적립 (오래된 순 큐)
+     * - 내역을 오래된 순으로 넣어야 함
+     * - 잔액보다 많은 사용(내역 밖에서 넣은 초기 잔액 등)은 남은 적립이 없으면 무시
+     */
+    private static final class FifoCredits {
+
+        private final ArrayDeque<Credit> credits = new ArrayDeque<>();
+
+        private void add(long amount, boolean promotional, LocalDateTime createdAt) {
+            credits.addLast(new Credit(amount, promotional, createdAt));
+        }
+
+        // 사용: 종류와 상관없이 가장 오래된 적립부터
+        private void spend(long amount) {
+            long left = amount;
+            while (left > 0 && !credits.isEmpty()) {
+                Credit oldest = credits.peekFirst();
+                long used = Math.min(left, oldest.remaining);
+                oldest.remaining -= used;
+                left -= used;
+                if (oldest.remaining == 0) {
+                    credits.pollFirst();
+                }
+            }
+        }
+
+        // 이전 소멸: 가장 오래된 프로모션 적립부터 (그때 기준일이 지난 프로모션 적립만 소멸했으므로)
+        private void expire(long amount) {
+            long left = amount;
+            Iterator<Credit> iterator = credits.iterator();
+            while (left > 0 && iterator.hasNext()) {
+                Credit credit = iterator.next();
+                if (!credit.promotional) {
+                    continue;
+                }
+                long expired = Math.min(left, credit.remaining);
+                credit.remaining -= expired;
+                left -= expired;
+                if (credit.remaining == 0) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        // 남은 적립 중 기준일 이전 프로모션 적립 합계
+        private long expirable(LocalDateTime cutoff) {
+            long sum = 0;
+            for (Credit credit : credits) {
+                if (credit.promotional && !credit.createdAt.isAfter(cutoff)) {
+                    sum += credit.remaining;
+                }
+            }
+            return sum;
+        }
+
+        private static final class Credit {
+
+            private long remaining;
+            private final boolean promotional;
+            private final LocalDateTime createdAt;
+
+            private Credit(long amount, boolean promotional, LocalDateTime createdAt) {
+                this.remaining = amount;
+                this.promotional = promotional;
+                this.createdAt = createdAt;
+            }
+        }
+    }
+
+    private record ChunkResult(long lastMemberId, long members, long points) {
+    }
+}
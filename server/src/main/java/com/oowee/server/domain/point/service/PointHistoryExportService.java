@@ -0,0 +1,241 @@
+package com.oowee.server.domain.point.service;
+
+import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.point.dto.HistoryExportFormat;
+import com.oowee.server.global.datasource.ReplicaReadPolicy;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 포인트 내역 전체 내보내기 (CSV / NDJSON)
+ * - 엔티티/리스트로 모으지 않고 전진 전용 커서에서 한 행씩 읽어 바로 응답에 씀 -> 내역 수와 상관없이 메모리 일정
+ * - fetch-size 행씩 DB에서 가져옴 (MySQL 서버 커서)
+ *   서버 커서(useCursorFetch)는 내보내기 전용 커넥션 풀에만 켬 -> 다른 쿼리는 기존처럼 결과를 한 번에 받음
+ * - 쿼리 하나로 읽으므로 내보내는 도중에 추가된 내역이 섞이지 않음
+ * - 읽기 복제본이 있으면 복제본 전용 풀에서 읽되, 라우팅 DataSource 와 같은 기준(ReplicaReadPolicy)으로
+ *   복제본이 지연 중이거나 회원이 방금 쓴 내역이 아직 복제되지 않았을 수 있으면 primary 전용 풀에서 읽음
+ * - 동시에 진행하는 내보내기는 max-concurrent 개까지 (넘으면 기다리지 않고 503)
+ */
+@Slf4j
+@Service
+public class PointHistoryExportService {
+
+    // 회원별 인덱스(member_id, created_at, point_history_id)를 순서대로 읽음 (정렬 없음)
+    private static final String EXPORT_SQL =
+            "SELECT point_history_id, created_at, type, amount, bet_amount, payout_amount "
+                    + "FROM point_history WHERE member_id = ? ORDER BY created_at, point_history_id";
+
+    private static final String CSV_HEADER = "id,created_at,type,amount,bet_amount,payout_amount\n";
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+    private final HikariDataSource primaryExportDataSource;
+    private final HikariDataSource replicaExportDataSource;  // 복제본이 없으면 null
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaReadPolicy readPolicy;
+    private final MemberRepository memberRepository;
+    private final int fetchSize;
+    private final Semaphore permits;
+
+    public PointHistoryExportService(
+            DataSourceProperties dataSourceProperties,
+            MemberRepository memberRepository,
+            ObjectProvider<ReplicaReadPolicy> readPolicy,
+            @Value("${datasource.replica.url:}") String replicaUrl,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${point.export.fetch-size:1000}") int fetchSize,
+            @Value("${point.export.max-concurrent:4}") int maxConcurrent) {
+
+        // 내보내기 전용 풀 (내보내기 수만큼만 연결, 쓰지 않을 때는 연결을 들고 있지 않음)
+        this.primaryExportDataSource = exportDataSource(
+                dataSourceProperties.initializeDataSourceBuilder(), "history-export", maxConcurrent);
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryExportDataSource);
+        if (StringUtils.hasText(replicaUrl)) {
+            this.replicaExportDataSource = exportDataSource(dataSourceProperties.initializeDataSourceBuilder()
+                    .url(replicaUrl)
+                    .username(replicaUsername)
+                    .password(replicaPassword), "history-export-replica", maxConcurrent);
+            this.replicaJdbcTemplate = new JdbcTemplate(replicaExportDataSource);
+        } else {
+            this.replicaExportDataSource = null;
+            this.replicaJdbcTemplate = null;
+        }
+        this.readPolicy = readPolicy.getIfAvailable();
+
+        this.memberRepository = memberRepository;
+        this.fetchSize = fetchSize;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    private static HikariDataSource exportDataSource(DataSourceBuilder<?> builder, String poolName, int maxSize) {
+        HikariDataSource dataSource = builder.type(HikariDataSource.class).build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(maxSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        if (dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+        return dataSource;
+    }
+
+    /**
+     * 응답을 쓰기 전에 회원 확인 (없으면 400 으로 응답할 수 있도록)
+     */
+    public Long findMemberId(String email) {
+        return memberRepository.findIdByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    }
+
+    /**
+     * 내보내기 자리 확보 (응답 헤더를 쓰기 전에 호출, 끝나면 release)
+     * 자리가 없으면 기다리지 않고 HistoryExportBusyException
+     */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new HistoryExportBusyException("진행 중인 내역 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 오래된 순으로 전체 내역을 out 에 씀, 쓴 행 수 반환 (acquire 로 자리를 확보한 뒤 호출)
+     * 클라이언트가 연결을 끊으면 IOException
+     */
+    public long export(Long memberId, String email, HistoryExportFormat format, boolean gzip, OutputStream out)
+            throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        RowWriter rowWriter = new RowWriter(writer, format);
+        try {
+            if (format == HistoryExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+            }
+
+            jdbcTemplate(email).query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setLong(1, memberId);
+                return ps;
+            }, rowWriter);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // gzip 은 finish 로 마지막 블록까지 기록 (응답 스트림 자체는 컨테이너가 닫음)
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        out.flush();
+
+        log.info("포인트 내역 내보내기: memberId={}, format={}, rows={}", memberId, format, rowWriter.rows);
+        return rowWriter.rows;
+    }
+
+    // 복제본이 없거나, 지연 중이거나, 회원이 최근에 쓴 내역이 아직 복제되지 않았을 수 있으면 primary
+    private JdbcTemplate jdbcTemplate(String email) {
+        if (replicaJdbcTemplate != null && readPolicy != null && readPolicy.canUseReplica(email)) {
+            return replicaJdbcTemplate;
+        }
+        return primaryJdbcTemplate;
+    }
+
+    @PreDestroy
+    public void close() {
+        primaryExportDataSource.close();
+        if (replicaExportDataSource != null) {
+            replicaExportDataSource.close();
+        }
+    }
+
+    // 한 행씩 바로 인코딩 (행 객체를 만들지 않음)
+    private static final class RowWriter implements RowCallbackHandler {
+
+        private final Writer writer;
+        private final HistoryExportFormat format;
+        private long rows;
+
+        private RowWriter(Writer writer, HistoryExportFormat format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("point_history_id");
+            LocalDateTime createdAt = rs.getObject("created_at", LocalDateTime.class);
+            String type = rs.getString("type");
+            long amount = rs.getLong("amount");
+            long betAmount = rs.getLong("bet_amount");
+            boolean hasBet = !rs.wasNull();
+            long payoutAmount = rs.getLong("payout_amount");
+            boolean hasPayout = !rs.wasNull();
+
+            try {
+                if (format == HistoryExportFormat.CSV) {
+                    writer.write(Long.toString(id));
+                    writer.write(',');
+                    writer.write(createdAt != null ? createdAt.toString() : "");
+                    writer.write(',');
+                    writer.write(type);
+                    writer.write(',');
+                    writer.write(Long.toString(amount));
+                    writer.write(',');
+                    writer.write(hasBet ? Long.toString(betAmount) : "");
+                    writer.write(',');
+                    writer.write(hasPayout ? Long.toString(payoutAmount) : "");
+                    writer.write('\n');
+                } else {
+                    // 값이 숫자/enum 이름/ISO 시각뿐이라 이스케이프가 필요 없음
+                    writer.write("{\"id\":");
+                    writer.write(Long.toString(id));
+                    writer.write(",\"createdAt\":");
+                    writer.write(createdAt != null ? "\"" + createdAt + "\"" : "null");
+                    writer.write(",\"type\":\"");
+                    writer.write(type);
+                    writer.write("\",\"amount\":");
+                    writer.write(Long.toString(amount));
+                    writer.write(",\"betAmount\":");
+                    writer.write(hasBet ? Long.toString(betAmount) : "null");
+                    writer.write(",\"payoutAmount\":");
+                    writer.write(hasPayout ? Long.toString(payoutAmount) : "null");
+                    writer.write("}\n");
+                }
+            } catch (IOException e) {
+                // 클라이언트 연결 끊김 -> 커서를 닫고 중단
+                throw new UncheckedIOException(e);
+            }
+            rows++;
+        }
+    }
+}
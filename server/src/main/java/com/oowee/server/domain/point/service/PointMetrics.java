@@ -0,0 +1,65 @@
+package com.oowee.server.domain.point.service;
+
+import com.oowee.server.domain.point.ledger.PointLedgerWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 변경 지연시간 지표 (미리 등록해두고 호출 시에는 기록만)
+ * - point.balance.lock: 잔액 행 락을 잡는 쿼리 소요 시간 (경합 시 대부분 락 대기)
+ * - point.balance.write: 락을 잡은 뒤부터 커밋(내역 INSERT 포함)까지
+ *   호출자 트랜잭션에 참여한 경우에도 그 트랜잭션이 실제로 커밋된 시점까지
+ *   (PointLedgerWriter 가 트랜잭션마다 등록하는 동기화의 afterCompletion 에서 기록)
+ * - ENGINE 모드는 행 락이 없으므로 write 만 기록 (엔진 큐 대기 + 저널 커밋)
+ */
+@Component
+public class PointMetrics {
+
+    public enum Operation {
+        CHARGE("charge"), USE("use"), BET("bet"), GAME("game"), GAME_BATCH("game_batch");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Map<Operation, Timer> lockTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> writeTimers = new EnumMap<>(Operation.class);
+    private final PointLedgerWriter pointLedgerWriter;
+
+    public PointMetrics(MeterRegistry meterRegistry, PointLedgerWriter pointLedgerWriter) {
+        this.pointLedgerWriter = pointLedgerWriter;
+        for (Operation operation : Operation.values()) {
+            lockTimers.put(operation, Timer.builder("point.balance.lock")
+                    .description("잔액 행 락 획득 소요 시간")
+                    .tag("operation", operation.tag)
+                    .register(meterRegistry));
+            writeTimers.put(operation, Timer.builder("point.balance.write")
+                    .description("락 획득 이후 커밋까지 소요 시간")
+                    .tag("operation", operation.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordLock(Operation operation, long nanos) {
+        lockTimers.get(operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordWrite(Operation operation, long nanos) {
+        writeTimers.get(operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 지금(락 획득 직후)부터 현재 트랜잭션 커밋까지를 write 로 기록 (롤백되면 기록하지 않음)
+     */
+    public void recordWriteUntilCommit(Operation operation) {
+        pointLedgerWriter.recordUntilCommit(writeTimers.get(operation), System.nanoTime());
+    }
+}
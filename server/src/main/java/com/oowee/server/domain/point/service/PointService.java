@@ -1,80 +1,256 @@
 package com.oowee.server.domain.point.service;
 
+import com.oowee.server.domain.member.dto.MemberBalance;
 import com.oowee.server.domain.member.entity.Member;
 import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.point.dto.PointHistoryPageResponse;
 import com.oowee.server.domain.point.dto.PointHistoryResponse;
-import com.oowee.server.domain.point.entity.PointHistory;
+import com.oowee.server.domain.point.dto.SettlementResult;
+import com.oowee.server.domain.point.engine.BalanceEngine;
+import com.oowee.server.domain.point.engine.BalanceMode;
 import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import com.oowee.server.domain.point.ledger.PointLedgerWriter;
 import com.oowee.server.domain.point.repository.PointHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerWriter pointLedgerWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PointMetrics pointMetrics;
+
+    // ENGINE 모드에서만 빈이 생성됨
+    private final ObjectProvider<BalanceEngine> balanceEngine;
+
+    @Value("${point.balance.mode:LOCKING}")
+    private BalanceMode balanceMode;
+
+    /**
+     * 잔액 변경이 호출자 트랜잭션에 참여하는지
+     * - ENGINE 모드는 엔진 저널이 따로 커밋하므로 트랜잭션 안에서 호출할 수 없음
+     *   -> 호출자는 자기 트랜잭션(상태 전환 등)을 먼저 커밋하고 트랜잭션 밖에서 잔액을 변경
+     */
+    public boolean joinsCallerTransaction() {
+        return balanceMode == BalanceMode.LOCKING;
+    }
 
     /**
      * 포인트 충전
      */
-    @Transactional
     public Long chargePoints(String email, Long amount) {
-        // 1. 회원 조회
-        Member member = memberRepository.findByEmailForUpdate(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-
-        // 2. 회원 테이블의 잔액 변경
-        member.updatePoints(amount);
-
-        // 3. 내역 저장
-        pointHistoryRepository.save(PointHistory.builder()
-                .member(member)
-                .amount(amount)
-                .type(PointType.CHARGE)
-                .build());
-
-        // 4. 변경된 잔액 반환
-        return member.getCurrentPoints();
+        return changeBalance(email, amount, PointType.CHARGE);
     }
 
     /**
      * 포인트 사용
      */
-    @Transactional
     public Long usePoints(String email, Long amount) {
-        Member member = memberRepository.findByEmailForUpdate(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+        return changeBalance(email, -amount, PointType.USE);
+    }
+
+    /**
+     * 멀티플레이 테이블 베팅 차감 (정산은 라운드 종료 후 BulkPayoutService)
+     */
+    public Long placeBet(String email, Long amount) {
+        return changeBalance(email, -amount, PointType.BET);
+    }
+
+    /**
+     * 게임 정산 (베팅 차감 + 지급을 한 번에)
+     * - 잔액이 베팅 금액 이상일 때만 (지급 - 베팅)을 반영하는 조건부 UPDATE 한 번
+     * - 내역도 베팅/지급 금액을 담은 GAME 한 줄만 기록
+     */
+    public Long settleGame(String email, Long betAmount, Long payoutAmount) {
+        long delta = payoutAmount - betAmount;
+
+        if (balanceMode == BalanceMode.ENGINE) {
+            Long memberId = memberRepository.findIdByEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+            long startedAt = System.nanoTime();
+            Long balance = balanceEngine.getObject().applySettlement(memberId, betAmount, payoutAmount);
+            pointMetrics.recordWrite(PointMetrics.Operation.GAME, System.nanoTime() - startedAt);
+            publishBalanceChanged(memberId, email, PointType.GAME, delta, balance, betAmount, payoutAmount);
+            return balance;
+        }
+
+        return transactionTemplate.execute(status -> {
+            // 1. 조건부 잔액 변경 (잔액 부족이면 아무 행도 바뀌지 않음)
+            long lockStartedAt = System.nanoTime();
+            int updated = memberRepository.addPointsIfEnough(email, delta, betAmount, LocalDateTime.now());
+            pointMetrics.recordLock(PointMetrics.Operation.GAME, System.nanoTime() - lockStartedAt);
+            pointMetrics.recordWriteUntilCommit(PointMetrics.Operation.GAME);
 
-        // 1. 잔액 차감
-        member.updatePoints(-amount);
+            if (updated == 0) {
+                // 실패 사유 구분은 드문 경로에서만 조회
+                if (!memberRepository.existsByEmail(email)) {
+                    throw new IllegalArgumentException("존재하지 않는 회원입니다.");
+                }
+                throw new IllegalArgumentException("포인트가 부족합니다.");
+            }
 
-        // 2. 내역 저장
-        pointHistoryRepository.save(PointHistory.builder()
-                .member(member)
-                .amount(-amount)
-                .type(PointType.USE)
-                .build());
+            // 2. 변경된 잔액 조회
+            // MySQL UPDATE 는 바뀐 값을 돌려주지 않고(RETURNING 없음), 호출 시점의 잔액/회원 ID 도 모르므로
+            // 내역(회원 ID)과 응답(잔액)을 위해 한 번 읽음 -> 방금 UPDATE로 잡은 행이라 락 대기 없음
+            MemberBalance balance = memberRepository.findBalanceByEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
-        return member.getCurrentPoints();
+            // 3. 내역 저장 (베팅/지급을 합친 한 줄)
+            pointLedgerWriter.append(balance.getId(), delta, PointType.GAME, betAmount, payoutAmount);
+
+            // 4. 잔액 변경 이벤트 (커밋 후 캐시 무효화 등)
+            publishBalanceChanged(balance.getId(), email, PointType.GAME, delta,
+                    balance.getCurrentPoints(), betAmount, payoutAmount);
+
+            return balance.getCurrentPoints();
+        });
     }
 
     /**
-     * 내 포인트 내역 조회
+     * 여러 라운드 연속 게임 정산 (자동 플레이)
+     * - 회원 락은 한 번만 잡고, 앞에서부터 베팅 금액을 낼 수 있는 라운드까지만 반영
+     * - 라운드마다 GAME 내역 한 줄씩 남기되, INSERT는 커밋 직전에 배치로 한 번에
+     * - 첫 라운드부터 베팅 금액이 부족하면 예외
+     */
+    public SettlementResult settleGames(String email, long[] betAmounts, long[] payoutAmounts) {
+        if (balanceMode == BalanceMode.ENGINE) {
+            Long memberId = memberRepository.findIdByEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+            long startedAt = System.nanoTime();
+            SettlementResult result = balanceEngine.getObject().applySettlements(memberId, betAmounts, payoutAmounts);
+            pointMetrics.recordWrite(PointMetrics.Operation.GAME_BATCH, System.nanoTime() - startedAt);
+
+            // 라운드별 잔액은 최종 잔액에서 거꾸로 계산
+            long[] balances = new long[result.getSettledRounds()];
+            long balance = result.getBalance();
+            for (int i = result.getSettledRounds() - 1; i >= 0; i--) {
+                balances[i] = balance;
+                balance -= payoutAmounts[i] - betAmounts[i];
+            }
+            for (int i = 0; i < balances.length; i++) {
+                publishBalanceChanged(memberId, email, PointType.GAME, payoutAmounts[i] - betAmounts[i],
+                        balances[i], betAmounts[i], payoutAmounts[i]);
+            }
+            return result;
+        }
+
+        return transactionTemplate.execute(status -> {
+            // 1. 회원 조회 (행 락 한 번)
+            long lockStartedAt = System.nanoTime();
+            Member member = memberRepository.findByEmailForUpdate(email)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+            pointMetrics.recordLock(PointMetrics.Operation.GAME_BATCH, System.nanoTime() - lockStartedAt);
+            pointMetrics.recordWriteUntilCommit(PointMetrics.Operation.GAME_BATCH);
+
+            // 2. 베팅 금액을 낼 수 있는 동안 순서대로 반영
+            int settled = 0;
+            for (int i = 0; i < betAmounts.length; i++) {
+                if (member.getCurrentPoints() < betAmounts[i]) {
+                    break;
+                }
+
+                long delta = payoutAmounts[i] - betAmounts[i];
+                member.updatePoints(delta);
+                pointLedgerWriter.append(member.getId(), delta, PointType.GAME, betAmounts[i], payoutAmounts[i]);
+                publishBalanceChanged(member.getId(), email, PointType.GAME, delta,
+                        member.getCurrentPoints(), betAmounts[i], payoutAmounts[i]);
+                settled++;
+            }
+
+            if (settled == 0) {
+                throw new IllegalArgumentException("포인트가 부족합니다.");
+            }
+
+            return new SettlementResult(settled, member.getCurrentPoints());
+        });
+    }
+
+    // 잔액 변경 (모드에 따라 행 락 또는 밸런스 엔진 사용)
+    private Long changeBalance(String email, Long delta, PointType type) {
+        PointMetrics.Operation operation = switch (type) {
+            case CHARGE -> PointMetrics.Operation.CHARGE;
+            case BET -> PointMetrics.Operation.BET;
+            default -> PointMetrics.Operation.USE;
+        };
+
+        if (balanceMode == BalanceMode.ENGINE) {
+            // 엔진 모드: DB 락/커넥션을 잡은 채로 기다리지 않음
+            Long memberId = memberRepository.findIdByEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+            long startedAt = System.nanoTime();
+            Long balance = balanceEngine.getObject().apply(memberId, delta, type);
+            pointMetrics.recordWrite(operation, System.nanoTime() - startedAt);
+            publishBalanceChanged(memberId, email, type, delta, balance, null, null);
+            return balance;
+        }
+
+        // 락 모드: 호출자 트랜잭션이 있으면 참여
+        return transactionTemplate.execute(status -> {
+            // 1. 회원 조회 (행 락)
+            long lockStartedAt = System.nanoTime();
+            Member member = memberRepository.findByEmailForUpdate(email)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+            pointMetrics.recordLock(operation, System.nanoTime() - lockStartedAt);
+            pointMetrics.recordWriteUntilCommit(operation);
+
+            // 2. 회원 테이블의 잔액 변경
+            member.updatePoints(delta);
+
+            // 3. 내역 저장 (커밋 직전에 배치로 INSERT)
+            pointLedgerWriter.append(member.getId(), delta, type);
+
+            // 4. 잔액 변경 이벤트 (커밋 후 캐시 무효화 등)
+            publishBalanceChanged(member.getId(), email, type, delta, member.getCurrentPoints(), null, null);
+
+            // 5. 변경된 잔액 반환
+            return member.getCurrentPoints();
+        });
+    }
+
+    private void publishBalanceChanged(Long memberId, String email, PointType type, Long delta,
+                                       Long balance, Long betAmount, Long payoutAmount) {
+        eventPublisher.publishEvent(
+                new PointBalanceChangedEvent(memberId, email, type, delta, balance, betAmount, payoutAmount));
+    }
+
+    /**
+     * 내 포인트 내역 조회 (커서 기반 페이지)
+     * - 회원 엔티티를 따로 조회하지 않고 email 조인으로 바로 DTO 조회
+     * - size + 1 건을 읽어서 다음 페이지 존재 여부 판단
      */
     @Transactional(readOnly = true)
-    public List<PointHistoryResponse> getMyPointHistory(String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-
-        return pointHistoryRepository.findByMemberOrderByCreatedAtDesc(member)
-                .stream()
-                .map(PointHistoryResponse::new)
-                .collect(Collectors.toList());
+    public PointHistoryPageResponse getMyPointHistory(String email, LocalDateTime cursorAt, Long cursorId, int size) {
+        if ((cursorAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("커서는 cursorAt과 cursorId를 함께 보내야 합니다.");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PointHistoryResponse> rows = (cursorAt == null)
+                ? pointHistoryRepository.findPageByEmail(email, limit)
+                : pointHistoryRepository.findPageByEmailBefore(email, cursorAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PointHistoryResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return new PointHistoryPageResponse(items, hasNext);
     }
 }
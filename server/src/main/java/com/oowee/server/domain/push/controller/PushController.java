@@ -0,0 +1,51 @@
+package com.oowee.server.domain.push.controller;
+
+import com.oowee.server.domain.push.dto.PushTicketResponse;
+import com.oowee.server.domain.push.service.PushService;
+import com.oowee.server.domain.push.service.PushTicketService;
+import com.oowee.server.global.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/push")
+@RequiredArgsConstructor
+public class PushController {
+
+    private final PushService pushService;
+    private final PushTicketService pushTicketService;
+
+    // SSE 연결용 일회용 티켓 발급 (Authorization 헤더로 인증)
+    @PostMapping("/ticket")
+    public ResponseEntity<PushTicketResponse> issueTicket(Authentication authentication) {
+        return ResponseEntity.ok(pushTicketService.issue(verifiedToken(authentication)));
+    }
+
+    // 실시간 알림 구독 (이벤트: balance, game, payment)
+    // EventSource 는 헤더를 보낼 수 없으므로 ?ticket= (일회용 티켓)으로 인증, 헤더를 보낼 수 있는 클라이언트는 JWT 그대로
+    // 티켓은 한 번만 쓸 수 있으므로 연결이 끊기면 새 티켓을 받아 다시 연결
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication, @RequestParam(required = false) String ticket) {
+        VerifiedToken token = ticket != null ? pushTicketService.redeem(ticket) : verifiedToken(authentication);
+        if (token == null) {
+            throw new IllegalArgumentException("인증 정보가 유효하지 않습니다.");
+        }
+
+        return pushService.connect(token.getEmail(), token.getExpiresAt());
+    }
+
+    private static VerifiedToken verifiedToken(Authentication authentication) {
+        if (authentication == null || !(authentication.getDetails() instanceof VerifiedToken token)) {
+            throw new IllegalArgumentException("인증 정보가 유효하지 않습니다.");
+        }
+        return token;
+    }
+}
@@ -0,0 +1,20 @@
+package com.oowee.server.domain.push.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.oowee.server.domain.point.entity.PointType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 잔액 변경 알림 (balance / game 이벤트)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BalancePush {
+    private final PointType type;
+    private final Long delta;          // 잔액 변동량 (부호 포함)
+    private final Long balance;        // 변경 후 잔액
+    private final Long betAmount;      // GAME 일 때만
+    private final Long payoutAmount;   // GAME 일 때만
+}
@@ -0,0 +1,15 @@
+package com.oowee.server.domain.push.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 확정 알림 (payment 이벤트)
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentPush {
+    private final String paymentId;
+    private final Long amount;
+    private final Long balance;
+}
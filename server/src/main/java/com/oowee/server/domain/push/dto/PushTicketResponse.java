@@ -0,0 +1,14 @@
+package com.oowee.server.domain.push.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SSE 연결용 일회용 티켓 (/api/push/stream?ticket= 으로 한 번만 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class PushTicketResponse {
+    private final String ticket;
+    private final long expiresInSeconds;
+}
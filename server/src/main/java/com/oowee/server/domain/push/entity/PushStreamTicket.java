@@ -0,0 +1,37 @@
+package com.oowee.server.domain.push.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSE 연결용 일회용 티켓
+ * - 브라우저 EventSource 는 Authorization 헤더를 보낼 수 없어서, JWT 대신 짧게 쓰고 버리는 티켓을 URL 에 담음
+ * - 티켓 원문은 저장하지 않고 SHA-256 해시만 저장 (어느 인스턴스로 연결해도 확인 가능)
+ * - 저장/사용은 PushTicketService 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "push_stream_ticket",
+        indexes = @Index(name = "idx_push_stream_ticket_expires", columnList = "expires_at"))
+public class PushStreamTicket {
+
+    @Id
+    @Column(name = "ticket_hash", length = 64)
+    private String ticketHash;
+
+    @Column(nullable = false)
+    private String email;
+
+    // 티켓을 발급받은 JWT 의 만료 시각 (SSE 연결은 이 시각까지만 유지)
+    @Column(nullable = false)
+    private LocalDateTime tokenExpiresAt;
+
+    // 티켓 자체의 만료 시각
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.oowee.server.domain.push.service;
+
+/**
+ * 실시간 알림 전파
+ * - SSE 연결은 연결을 받은 인스턴스에만 있으므로, 여러 인스턴스로 띄울 때 Redis pub/sub, 메시지 큐 등으로 구현해서 빈으로 등록
+ * - 다른 인스턴스에서 받은 알림은 PushService.deliverLocal / broadcastLocal 로 반영
+ * - 등록된 구현이 없으면 단일 인스턴스로 보고 로컬 연결에만 전송
+ */
+public interface PushBroadcaster {
+
+    // 회원 한 명의 연결로 보낼 알림 (data 는 직렬화된 JSON)
+    void publish(String email, String name, String json);
+
+    // 모든 연결로 보낼 알림
+    void publishAll(String name, String json);
+}
@@ -0,0 +1,94 @@
+package com.oowee.server.domain.push.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 연결 하나
+ * - 이벤트는 큐에 넣고 가상 스레드 하나가 순서대로 전송 (커밋한 요청 스레드가 느린 클라이언트를 기다리지 않음)
+ * - 보내지 못한 이벤트가 max-queued 를 넘으면 느린 연결로 보고 끊음 (클라이언트가 재연결 후 다시 조회)
+ */
+class PushConnection {
+
+    private final String email;
+    private final SseEmitter emitter;
+    private final int maxQueued;
+
+    private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    PushConnection(String email, SseEmitter emitter, int maxQueued) {
+        this.email = email;
+        this.emitter = emitter;
+        this.maxQueued = maxQueued;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    // 큐가 가득 찼거나 이미 닫혔으면 false
+    boolean offer(SseEmitter.SseEventBuilder event, Executor executor) {
+        if (closed) {
+            return false;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            close();
+            return false;
+        }
+
+        queue.add(event);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+        return true;
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        try {
+            emitter.complete();
+        } catch (RuntimeException ignored) {
+            // 이미 끝난 연결
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            while ((event = queue.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊었거나 연결이 이미 끝남
+                    close();
+                    return;
+                }
+            }
+
+            draining.set(false);
+            // 플래그를 내리는 사이에 들어온 이벤트가 있으면 이어서 전송
+            if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.oowee.server.domain.push.service;
+
+import com.oowee.server.domain.payment.event.PaymentConfirmedEvent;
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import com.oowee.server.domain.push.dto.BalancePush;
+import com.oowee.server.domain.push.dto.PaymentPush;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원별 실시간 알림 (SSE)
+ * - 잔액 변경(충전/사용), 게임 정산, 결제 확정을 커밋 직후 해당 회원의 연결로 전송
+ * - 대기 중인 연결은 스레드를 잡지 않음 (비동기 요청), 전송할 때만 가상 스레드 사용
+ * - 클라이언트는 이 알림으로 화면을 갱신하고 /api/members/me 를 다시 조회하지 않아도 됨
+ * - 종료 시 웹 서버의 graceful shutdown 보다 먼저 연결을 모두 끝냄 (열린 SSE 요청이 종료를 붙잡지 않게)
+ * - 연결은 이 인스턴스에만 있으므로 알림은 PushBroadcaster 로 다른 인스턴스에도 전파 (구현이 없으면 단일 인스턴스)
+ */
+@Service
+public class PushService implements SmartLifecycle {
+
+    private final Map<String, List<PushConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final JsonMapper jsonMapper;
+    private final PushBroadcaster broadcaster;  // null 이면 단일 인스턴스
+
+    private final long timeoutMillis;
+    private final int maxConnectionsPerMember;
+    private final int maxQueued;
+
+    private final Counter dropped;
+
+    private volatile boolean running;
+
+    public PushService(
+            JsonMapper jsonMapper,
+            ObjectProvider<PushBroadcaster> broadcaster,
+            MeterRegistry meterRegistry,
+            @Value("${push.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${push.max-connections-per-member:5}") int maxConnectionsPerMember,
+            @Value("${push.max-queued-events:100}") int maxQueued) {
+
+        this.jsonMapper = jsonMapper;
+        // 전파 구현이 없으면(null) 로컬 전용 (단일 인스턴스)
+        this.broadcaster = broadcaster.getIfAvailable();
+        this.timeoutMillis = timeoutMillis;
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+        this.maxQueued = maxQueued;
+
+        Gauge.builder("push.connections", connectionCount, AtomicInteger::get)
+                .description("열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("push.dropped")
+                .description("큐가 가득 차거나 끊겨서 보내지 못한 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 등록 (토큰이 만료되는 시점에는 연결을 끝내서 클라이언트가 새 토큰으로 다시 연결하게 함)
+     */
+    public SseEmitter connect(String email, Instant tokenExpiresAt) {
+        long untilExpiry = Duration.between(Instant.now(), tokenExpiresAt).toMillis();
+        if (untilExpiry <= 0) {
+            throw new IllegalArgumentException("인증 정보가 유효하지 않습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(Math.min(timeoutMillis, untilExpiry));
+        if (!running) {
+            // 종료 중 -> 바로 끝내서 클라이언트가 다른 인스턴스로 재연결하게 함
+            emitter.complete();
+            return emitter;
+        }
+        PushConnection connection = new PushConnection(email, emitter, maxQueued);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        // 회원당 연결 수 제한 (가장 오래된 연결부터 닫음)
+        List<PushConnection> evicted = new ArrayList<>();
+        connections.compute(email, (key, current) -> {
+            List<PushConnection> next = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            next.add(connection);
+            while (next.size() > maxConnectionsPerMember) {
+                evicted.add(next.remove(0));
+            }
+            return List.copyOf(next);
+        });
+        connectionCount.incrementAndGet();
+        evicted.forEach(PushConnection::close);
+
+        // 응답 헤더를 바로 내보내서 클라이언트가 연결됨을 알 수 있게
+        connection.offer(SseEmitter.event().comment("connected"), sendExecutor);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(PointBalanceChangedEvent event) {
+        BalancePush push = new BalancePush(event.getType(), event.getDelta(), event.getBalance(),
+                event.getBetAmount(), event.getPayoutAmount());
+        send(event.getEmail(), event.getType() == PointType.GAME ? "game" : "balance", push);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentConfirmed(PaymentConfirmedEvent event) {
+        send(event.getEmail(), "payment",
+                new PaymentPush(event.getPaymentId(), event.getAmount(), event.getBalance()));
+    }
+
+    /**
+     * 모든 연결에 같은 이벤트 전송 (멀티플레이 테이블 라운드 등, JSON 직렬화는 한 번만)
+     */
+    public void broadcast(String name, Object data) {
+        String json = jsonMapper.writeValueAsString(data);
+        broadcastLocal(name, json);
+        if (broadcaster != null) {
+            broadcaster.publishAll(name, json);
+        }
+    }
+
+    // 다른 인스턴스에서 전파받은 회원 알림 처리용
+    public void deliverLocal(String email, String name, String json) {
+        List<PushConnection> targets = connections.get(email);
+        if (targets == null) {
+            return;
+        }
+
+        for (PushConnection connection : targets) {
+            // 연결마다 이벤트 빌더를 따로 (빌더는 전송할 때 내부 상태가 바뀜)
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name(name)
+                    .data(json, MediaType.APPLICATION_JSON);
+            if (!connection.offer(event, sendExecutor)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    // 다른 인스턴스에서 전파받은 전체 알림 처리용
+    public void broadcastLocal(String name, String json) {
+        connections.values().forEach(list -> list.forEach(connection -> {
+            if (!connection.offer(SseEmitter.event().name(name).data(json), sendExecutor)) {
+                dropped.increment();
+            }
+        }));
+    }
+
+    /**
+     * 연결 유지용 주석 이벤트 (프록시 유휴 타임아웃 방지 + 끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${push.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        connections.values().forEach(list -> list.forEach(connection -> {
+            if (!connection.offer(SseEmitter.event().comment("ping"), sendExecutor)) {
+                dropped.increment();
+            }
+        }));
+    }
+
+    // 로컬 연결로 전송 + 다른 인스턴스에 전파 (JSON 직렬화는 한 번만)
+    private void send(String email, String name, Object data) {
+        // 단일 인스턴스에서 연결이 없는 회원이면 직렬화도 하지 않음
+        if (broadcaster == null && !connections.containsKey(email)) {
+            return;
+        }
+
+        String json = jsonMapper.writeValueAsString(data);
+        deliverLocal(email, name, json);
+        if (broadcaster != null) {
+            broadcaster.publish(email, name, json);
+        }
+    }
+
+    private void remove(PushConnection connection) {
+        boolean[] removed = {false};
+        connections.computeIfPresent(connection.getEmail(), (key, current) -> {
+            List<PushConnection> next = new ArrayList<>(current);
+            removed[0] = next.remove(connection);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 열린 연결을 모두 끝냄 (클라이언트는 다른 인스턴스로 재연결)
+    @Override
+    public void stop() {
+        running = false;
+        connections.values().forEach(list -> list.forEach(PushConnection::close));
+        sendExecutor.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)보다 먼저 멈춤
+    // (열린 SSE 요청은 끝나지 않는 요청이라, 먼저 닫지 않으면 graceful shutdown 이 타임아웃까지 기다림)
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 512;
+    }
+}
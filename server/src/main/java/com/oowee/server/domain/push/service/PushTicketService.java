@@ -0,0 +1,103 @@
+package com.oowee.server.domain.push.service;
+
+import com.oowee.server.domain.push.dto.PushTicketResponse;
+import com.oowee.server.global.jwt.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * SSE 연결용 일회용 티켓 발급/사용
+ * - JWT 를 URL(쿼리 파라미터)에 싣지 않도록, 헤더로 인증된 요청에서 짧은 티켓을 발급
+ * - 티켓은 한 번만 쓸 수 있음 (DELETE 에 성공한 요청만 연결) -> 접속 로그/리퍼러로 새어도 재사용 불가
+ */
+@Service
+public class PushTicketService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO push_stream_ticket (ticket_hash, email, token_expires_at, expires_at) VALUES (?, ?, ?, ?)";
+
+    private static final String FIND_SQL =
+            "SELECT email, token_expires_at FROM push_stream_ticket WHERE ticket_hash = ? AND expires_at > ?";
+
+    private static final String USE_SQL =
+            "DELETE FROM push_stream_ticket WHERE ticket_hash = ?";
+
+    private static final String CLEANUP_SQL =
+            "DELETE FROM push_stream_ticket WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SecureRandom random = new SecureRandom();
+    private final long ttlSeconds;
+
+    public PushTicketService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${push.ticket-ttl-seconds:30}") long ttlSeconds) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 티켓 발급 (연결은 JWT 만료 시각까지만 유지되도록 함께 저장)
+     */
+    public PushTicketResponse issue(VerifiedToken token) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_SQL, hash(ticket), token.getEmail(),
+                Timestamp.valueOf(LocalDateTime.ofInstant(token.getExpiresAt(), ZoneId.systemDefault())),
+                Timestamp.valueOf(now.plusSeconds(ttlSeconds)));
+        return new PushTicketResponse(ticket, ttlSeconds);
+    }
+
+    /**
+     * 티켓 사용 (없거나 만료됐거나 이미 쓴 티켓이면 null)
+     */
+    public VerifiedToken redeem(String ticket) {
+        String ticketHash = hash(ticket);
+        List<VerifiedToken> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new VerifiedToken(
+                        rs.getString("email"), rs.getTimestamp("token_expires_at").toInstant()),
+                ticketHash, Timestamp.valueOf(LocalDateTime.now()));
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        // 같은 티켓으로 동시에 연결해도 삭제에 성공한 한 요청만
+        if (jdbcTemplate.update(USE_SQL, ticketHash) == 0) {
+            return null;
+        }
+        VerifiedToken token = rows.get(0);
+        return token.getExpiresAt().isAfter(Instant.now()) ? token : null;
+    }
+
+    // 쓰이지 않고 만료된 티켓 정리
+    @Scheduled(fixedDelayString = "${push.ticket-cleanup-interval-ms:600000}")
+    public void cleanup() {
+        jdbcTemplate.update(CLEANUP_SQL, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static String hash(String ticket) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(ticket.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
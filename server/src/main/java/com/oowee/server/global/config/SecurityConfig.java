@@ -1,9 +1,13 @@
 package com.oowee.server.global.config;
 
+import com.oowee.server.global.idempotency.IdempotencyFilter;
 import com.oowee.server.global.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -24,10 +28,12 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final IdempotencyFilter idempotencyFilter;
 
+    // cost 를 올리면 기존 회원은 다음 로그인 때 새 cost 로 다시 해시됨 (PasswordHasher)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -50,10 +56,21 @@ public class SecurityConfig {
                                 "/api/members/login",
                                 "/api/health"
                         ).permitAll()
+                        // 운영 지표 수집 (관리 포트에서만 열림)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // 포트원 웹훅 (JWT 대신 웹훅 서명으로 검증)
+                        .requestMatchers(HttpMethod.POST, "/api/payments/webhook").permitAll()
+                        // SSE 구독 (EventSource 는 헤더를 못 보내므로 컨트롤러에서 일회용 티켓 또는 JWT 로 확인)
+                        .requestMatchers(HttpMethod.GET, "/api/push/stream").permitAll()
+                        // SSE 연결이 끝날 때의 비동기 디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
 
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 인증된 회원 기준으로 Idempotency-Key 중복 요청 처리
+                .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -64,6 +81,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(List.of("http://localhost:5173"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("Location", "Idempotent-Replayed"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
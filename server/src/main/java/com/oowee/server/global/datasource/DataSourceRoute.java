@@ -0,0 +1,6 @@
+package com.oowee.server.global.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,47 @@
+package com.oowee.server.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션 라우팅 제어
+ * - 읽기 복제본을 설정하지 않았으면 모든 조회가 primary 이므로 아무 것도 하지 않음
+ * - onPrimary: 복제 지연으로 방금 쓴 데이터가 복제본에 없을 수 있는 조회를 primary 에서 실행
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+    private static volatile boolean replicaEnabled;
+
+    private ReadRouting() {
+    }
+
+    public static boolean isReplicaEnabled() {
+        return replicaEnabled;
+    }
+
+    /**
+     * action 안의 조회는 읽기 전용 트랜잭션이어도 primary 사용
+     * (이미 커넥션을 잡은 트랜잭션 안에서 부르면 효과 없음)
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            } else {
+                PRIMARY_ONLY.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_ONLY.get() != null;
+    }
+
+    static void enableReplica() {
+        replicaEnabled = true;
+    }
+}
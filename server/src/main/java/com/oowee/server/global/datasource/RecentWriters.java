@@ -0,0 +1,40 @@
+package com.oowee.server.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 최근에 데이터를 쓴 회원 (이메일 -> 마지막 커밋 시각)
+ * - 이 회원의 조회는 복제본이 따라잡을 때까지 primary 로 (자기가 쓴 값을 바로 읽도록)
+ * - 복제 지연이 최대 허용치를 넘으면 어차피 모두 primary 이므로 그 이상은 보관하지 않음
+ */
+public class RecentWriters {
+
+    private final Cache<String, Long> lastWrites;
+
+    public RecentWriters(long maxSize, Duration retention) {
+        this.lastWrites = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    public void mark(String email) {
+        lastWrites.put(email, System.currentTimeMillis());
+    }
+
+    // 마지막 쓰기 커밋 시각 (epoch ms, 보관 기간이 지났으면 null)
+    public Long lastWriteAt(String email) {
+        return lastWrites.getIfPresent(email);
+    }
+
+    // 요청 스레드 밖의 쓰기(웹훅 충전, 테이블 정산 등)도 잔액 변경 이벤트로 기록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(PointBalanceChangedEvent event) {
+        mark(event.getEmail());
+    }
+}
@@ -0,0 +1,94 @@
+package com.oowee.server.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 설정 (datasource.replica.url 이 있을 때만)
+ * - primary 풀: 기존 spring.datasource.* 설정 그대로
+ * - 복제본 풀: datasource.replica.* (계정은 비워 두면 primary 와 같음)
+ * - JPA/JdbcTemplate 이 쓰는 기본 DataSource 는 라우팅 DataSource 를 감싼 LazyConnectionDataSourceProxy
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.url:}'.isEmpty()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String password) {
+
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public RecentWriters recentWriters(
+            @Value("${datasource.replica.recent-writers.max-size:100000}") long maxSize,
+            @Value("${datasource.replica.sticky-ms:5000}") long stickyMillis,
+            @Value("${datasource.replica.max-lag-ms:3000}") long maxLagMillis) {
+
+        // 그보다 오래된 쓰기는 sticky 기간도, 허용 지연도 지났으므로 보관하지 않음
+        return new RecentWriters(maxSize, Duration.ofMillis(Math.max(stickyMillis, maxLagMillis) + 1000));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.max-lag-ms:3000}") long maxLagMillis,
+            MeterRegistry meterRegistry) {
+
+        return new ReplicaLagMonitor(replicaDataSource, maxLagMillis, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaReadPolicy replicaReadPolicy(
+            RecentWriters recentWriters,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${datasource.replica.sticky-ms:5000}") long stickyMillis) {
+
+        return new ReplicaReadPolicy(recentWriters, replicaLagMonitor, stickyMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            RecentWriters recentWriters,
+            ReplicaReadPolicy replicaReadPolicy,
+            MeterRegistry meterRegistry) {
+
+        ReadRouting.enableReplica();
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, recentWriters, replicaReadPolicy, meterRegistry));
+    }
+}
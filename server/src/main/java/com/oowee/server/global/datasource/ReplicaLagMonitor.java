@@ -0,0 +1,108 @@
+package com.oowee.server.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 읽기 복제본 지연 감시
+ * - 주기적으로 복제본에서 SHOW REPLICA STATUS (MySQL 8.0.22+) 조회
+ * - 지연이 max-lag 를 넘거나, 복제가 멈췄거나(지연 값 NULL), 조회에 실패하면 복제본을 쓰지 않음 (모든 조회 primary)
+ * - 복제 설정이 없는 단독 인스턴스(로컬 테스트용)는 지연 0 으로 봄
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = "SHOW REPLICA STATUS";
+    private static final long STANDALONE = -2L;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    // 첫 확인 전에는 복제본을 쓰지 않음
+    private volatile boolean usable;
+    private volatile long lagMillis = -1L;
+    private boolean standaloneLogged;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLagMillis;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("읽기 복제본 지연 (ms, 알 수 없으면 -1)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    // 마지막으로 확인한 지연 (ms, 알 수 없으면 -1)
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        Long lagSeconds;
+        try {
+            lagSeconds = replicaJdbcTemplate.query(LAG_SQL, ReplicaLagMonitor::readLagSeconds);
+        } catch (RuntimeException e) {
+            if (usable) {
+                log.warn("읽기 복제본 지연 확인 실패 -> primary 로 전환: {}", e.getMessage());
+            }
+            record(null);
+            return;
+        }
+
+        if (lagSeconds != null && lagSeconds == STANDALONE) {
+            if (!standaloneLogged) {
+                log.warn("읽기 복제본에 복제 설정이 없습니다. 지연 0 으로 보고 사용합니다.");
+                standaloneLogged = true;
+            }
+            lagSeconds = 0L;
+        }
+        record(lagSeconds);
+    }
+
+    // 확인 결과 반영 (null: 복제 중단 또는 확인 실패)
+    void record(Long lagSeconds) {
+        boolean wasUsable = usable;
+        if (lagSeconds == null) {
+            lagMillis = -1L;
+            usable = false;
+        } else {
+            lagMillis = lagSeconds * 1000;
+            usable = lagMillis <= maxLagMillis;
+        }
+
+        if (wasUsable != usable) {
+            log.info("읽기 복제본 {}: lag={}ms", usable ? "사용" : "중지", lagMillis);
+        }
+    }
+
+    private static Long readLagSeconds(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return STANDALONE;
+        }
+        long lag = rs.getLong(lagColumn(rs));
+        return rs.wasNull() ? null : lag;
+    }
+
+    // 8.0.22 부터 Seconds_Behind_Master -> Seconds_Behind_Source
+    private static String lagColumn(ResultSet rs) {
+        try {
+            rs.findColumn("Seconds_Behind_Source");
+            return "Seconds_Behind_Source";
+        } catch (SQLException e) {
+            return "Seconds_Behind_Master";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.oowee.server.global.datasource;
+
+/**
+ * 읽기 복제본을 써도 되는지 판단 (라우팅 DataSource, 내보내기 전용 풀이 같은 기준을 씀)
+ * - primary 로 보내는 경우
+ *   1. 복제본 지연이 허용치를 넘었거나 상태를 알 수 없음
+ *   2. 회원이 최근에 쓴 데이터가 아직 복제되지 않았을 수 있음 (max(sticky, 현재 지연 + 1초) 동안)
+ *   3. ReadRouting.onPrimary 안
+ */
+public class ReplicaReadPolicy {
+
+    // 복제 지연은 초 단위로만 알 수 있어서 1초 여유
+    private static final long LAG_GRANULARITY_MILLIS = 1000L;
+
+    private final RecentWriters recentWriters;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickyMillis;
+
+    public ReplicaReadPolicy(RecentWriters recentWriters, ReplicaLagMonitor lagMonitor, long stickyMillis) {
+        this.recentWriters = recentWriters;
+        this.lagMonitor = lagMonitor;
+        this.stickyMillis = stickyMillis;
+    }
+
+    // email 이 null 이면 회원과 상관없는 조회
+    public boolean canUseReplica(String email) {
+        return !ReadRouting.isPrimaryForced() && lagMonitor.isUsable() && !wroteRecently(email);
+    }
+
+    private boolean wroteRecently(String email) {
+        if (email == null) {
+            return false;
+        }
+        Long lastWriteAt = recentWriters.lastWriteAt(email);
+        if (lastWriteAt == null) {
+            return false;
+        }
+        long window = Math.max(stickyMillis, lagMonitor.getLagMillis() + LAG_GRANULARITY_MILLIS);
+        return System.currentTimeMillis() - lastWriteAt < window;
+    }
+}
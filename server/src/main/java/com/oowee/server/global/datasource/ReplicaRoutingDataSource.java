@@ -0,0 +1,85 @@
+package com.oowee.server.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary / 읽기 복제본 라우팅
+ * - 읽기 전용 트랜잭션만 복제본으로, 나머지(쓰기 트랜잭션, 트랜잭션 밖 쿼리)는 primary
+ * - 읽기 전용이어도 ReplicaReadPolicy 가 허용하지 않으면 primary (복제 지연, 요청한 회원의 최근 쓰기, ReadRouting.onPrimary)
+ * - 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *   (첫 쿼리 때 커넥션을 가져오면서 라우팅)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final RecentWriters recentWriters;
+    private final ReplicaReadPolicy readPolicy;
+
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, RecentWriters recentWriters,
+                                    ReplicaReadPolicy readPolicy, MeterRegistry meterRegistry) {
+        this.recentWriters = recentWriters;
+        this.readPolicy = readPolicy;
+
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryReads = Counter.builder("datasource.reads").tag("target", "primary")
+                .description("읽기 전용 트랜잭션 라우팅 수").register(meterRegistry);
+        this.replicaReads = Counter.builder("datasource.reads").tag("target", "replica")
+                .description("읽기 전용 트랜잭션 라우팅 수").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return DataSourceRoute.PRIMARY;
+        }
+
+        if (!readPolicy.canUseReplica(currentMember())) {
+            primaryReads.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+
+        replicaReads.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 요청한 회원을 최근 쓰기로 기록
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String email = currentMember();
+        if (email != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.mark(email);
+                }
+            });
+        }
+    }
+
+    private static String currentMember() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,17 @@
+package com.oowee.server.global.exception;
+
+import lombok.Getter;
+
+/**
+ * unique 제약에 걸린 입력값 (어느 필드가 중복인지 함께 전달)
+ */
+@Getter
+public class DuplicateFieldException extends RuntimeException {
+
+    private final String field;
+
+    public DuplicateFieldException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+}
@@ -1,6 +1,10 @@
 package com.oowee.server.global.exception;
 
+import com.oowee.server.domain.payment.client.PortOneUnavailableException;
+import com.oowee.server.domain.point.service.HistoryExportBusyException;
+import com.oowee.server.global.security.PasswordHashingBusyException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -41,6 +45,16 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    // unique 제약 중복 (어느 필드가 중복인지 함께 응답)
+    @ExceptionHandler(DuplicateFieldException.class)
+    public ResponseEntity<Map<String, String>> handleDuplicateField(DuplicateFieldException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "error", "Conflict",
+                "message", e.getMessage(),
+                "field", e.getField()
+        ));
+    }
+
     // DB 무결성 위반 예외 (중복 데이터가 DB까지 갔을 때)
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<Map<String, String>> handleDataIntegrityViolation(DataIntegrityViolationException e) {
@@ -50,6 +64,37 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    // 외부 결제 서버 장애 (타임아웃, 서킷 오픈, 동시 호출 초과)
+    @ExceptionHandler(PortOneUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handlePortOneUnavailable(PortOneUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                "error", "Service Unavailable",
+                "message", e.getMessage()
+        ));
+    }
+
+    // 비밀번호 해시 대기열 초과 (로그인/가입 폭주)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "error", "Service Unavailable",
+                        "message", e.getMessage()
+                ));
+    }
+
+    // 내역 내보내기 동시 실행 수 초과
+    @ExceptionHandler(HistoryExportBusyException.class)
+    public ResponseEntity<Map<String, String>> handleHistoryExportBusy(HistoryExportBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of(
+                        "error", "Service Unavailable",
+                        "message", e.getMessage()
+                ));
+    }
+
     // 나머지 모든 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleException(Exception e) {
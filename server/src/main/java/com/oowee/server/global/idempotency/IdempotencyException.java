@@ -0,0 +1,17 @@
+package com.oowee.server.global.idempotency;
+
+import lombok.Getter;
+
+/**
+ * Idempotency-Key 처리 실패 (키 재사용, 같은 요청 처리 중 등)
+ */
+@Getter
+public class IdempotencyException extends RuntimeException {
+
+    private final int status;
+
+    public IdempotencyException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
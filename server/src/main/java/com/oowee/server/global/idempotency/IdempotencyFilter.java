@@ -0,0 +1,196 @@
+package com.oowee.server.global.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더가 있는 변경 요청(포인트 충전/사용, 게임, 결제)을 한 번만 실행
+ * - 같은 회원이 같은 키로 다시 보내면 저장해둔 응답을 그대로 반환 (Idempotent-Replayed: true)
+ * - 헤더가 없으면 기존과 동일하게 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final Set<String> TARGET_PATHS = Set.of(
+            "/api/points/charge",
+            "/api/points/use",
+            "/api/games/dice",
+            "/api/games/dice/batch",
+            "/api/games/table/bets",
+            "/api/payments/complete"
+    );
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !TARGET_PATHS.contains(request.getRequestURI())
+                || !StringUtils.hasText(request.getHeader(HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        // 인증되지 않은 요청은 그대로 통과 (뒤에서 401 처리)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, 400, "Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+
+        // 본문은 해시 계산에 한 번 읽고, 컨트롤러에서 다시 읽을 수 있도록 감싸서 전달
+        // 쿼리 문자열도 요청 내용에 포함 (?async=true 처럼 응답이 달라지는 옵션을 다른 요청으로 구분)
+        byte[] body = request.getInputStream().readAllBytes();
+        String key = sha256(authentication.getName() + "\n" + request.getRequestURI() + "\n" + idempotencyKey);
+        String requestHash = sha256(requestContent(request.getQueryString(), body));
+
+        StoredResponse stored;
+        boolean[] executed = {false};
+        try {
+            stored = idempotencyStore.execute(key, requestHash, () -> {
+                executed[0] = true;
+                ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+                filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+
+                StoredResponse result = new StoredResponse(requestHash, wrapper.getStatus(),
+                        wrapper.getContentType(), wrapper.getContentAsByteArray());
+                wrapper.copyBodyToResponse();
+                return result;
+            });
+        } catch (IdempotencyException e) {
+            writeError(response, e.getStatus(), e.getMessage());
+            return;
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+
+        // 이번 요청이 직접 실행했으면 응답은 이미 나감
+        if (executed[0]) {
+            return;
+        }
+
+        response.setStatus(stored.getStatusCode());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader("Idempotent-Replayed", "true");
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private static void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"Idempotency\",\"message\":\"" + message + "\"}");
+    }
+
+    private static byte[] requestContent(String queryString, byte[] body) {
+        byte[] query = (queryString != null ? queryString : "").getBytes(StandardCharsets.UTF_8);
+        byte[] content = new byte[query.length + 1 + body.length];
+        System.arraycopy(query, 0, content, 0, query.length);
+        content[query.length] = '\n';
+        System.arraycopy(body, 0, content, query.length + 1, body.length);
+        return content;
+    }
+
+    private static String sha256(String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 이미 읽은 본문을 다시 읽을 수 있게 해주는 요청 래퍼
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 메모리에 있으므로 비동기로 읽어도 바로 전부 읽을 수 있음
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.oowee.server.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 처리한 요청의 응답
+ * - 키는 (회원, 메서드, 경로, Idempotency-Key) 의 SHA-256 해시라 길이가 고정
+ * - status_code 가 0 이면 처리 중 (다른 인스턴스에서 같은 키를 동시에 처리하지 않도록 먼저 INSERT)
+ * - status_code 가 -1 이면 변경은 커밋됐지만 응답을 아직 저장하지 못함 (다시 실행하지 않음)
+ * - 저장/조회는 IdempotencyStore 가 JDBC 로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_record",
+        indexes = @Index(name = "idx_idempotency_record_created", columnList = "created_at"))
+public class IdempotencyRecord {
+
+    public static final int PROCESSING = 0;
+    public static final int COMMITTED = -1;
+
+    @Id
+    @Column(name = "idempotency_key", length = 44)
+    private String key;
+
+    // 요청 본문 해시 (같은 키로 다른 요청을 보냈는지 확인)
+    @Column(name = "request_hash", length = 44, nullable = false)
+    private String requestHash;
+
+    @Column(name = "status_code", nullable = false)
+    private int statusCode;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,289 @@
+package com.oowee.server.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oowee.server.domain.point.event.PointBalanceChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 응답 저장소
+ * - 완료된 응답: 크기/TTL 제한 메모리 캐시 -> 없으면 idempotency_record 테이블
+ * - 처리 중인 키: 같은 키의 다른 요청은 먼저 온 요청이 끝날 때까지 기다렸다가 같은 응답을 받음
+ * - 재시도는 컨트롤러까지 가지 않으므로 잔액 행 락을 다시 잡지 않음
+ * - 잔액 변경 트랜잭션이 커밋될 때 같은 트랜잭션에서 행을 '변경 커밋됨'으로 표시
+ *   -> 응답 저장 전에 서버가 죽어도 stale-after 이후 같은 요청이 다시 실행되지 않음
+ *   (ENGINE 모드는 엔진 저널 커밋 직후에 표시)
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String FIND_SQL =
+            "SELECT request_hash, status_code, content_type, response_body "
+                    + "FROM idempotency_record WHERE idempotency_key = ?";
+
+    private static final String INSERT_PLACEHOLDER_SQL =
+            "INSERT INTO idempotency_record (idempotency_key, request_hash, status_code, created_at) VALUES (?, ?, 0, ?)";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_record SET status_code = ?, content_type = ?, response_body = ? WHERE idempotency_key = ?";
+
+    // 변경이 커밋된 행은 지우지 않음 (응답이 없더라도 다시 실행하면 안 되므로)
+    private static final String DELETE_SQL =
+            "DELETE FROM idempotency_record WHERE idempotency_key = ? AND status_code = " + IdempotencyRecord.PROCESSING;
+
+    private static final String MARK_COMMITTED_SQL =
+            "UPDATE idempotency_record SET status_code = " + IdempotencyRecord.COMMITTED
+                    + " WHERE idempotency_key = ? AND status_code = " + IdempotencyRecord.PROCESSING;
+
+    // 처리 도중 인스턴스가 죽어서 남은 처리 중 행 정리
+    private static final String DELETE_STALE_SQL =
+            "DELETE FROM idempotency_record WHERE idempotency_key = ? AND status_code = 0 AND created_at < ?";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM idempotency_record WHERE created_at < ? LIMIT ?";
+
+    @FunctionalInterface
+    public interface Action {
+        StoredResponse run() throws Exception;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, StoredResponse> completed;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 지금 이 스레드가 실행 중인 요청의 키 (잔액 변경 커밋 시 표시용)
+    private final ThreadLocal<String> currentKey = new ThreadLocal<>();
+
+    private final Duration ttl;
+    private final long waitTimeoutMillis;
+    private final Duration staleAfter;
+    private final int purgeChunkSize;
+
+    public IdempotencyStore(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis,
+            @Value("${idempotency.stale-after-seconds:60}") long staleAfterSeconds,
+            @Value("${idempotency.purge-chunk-size:1000}") int purgeChunkSize) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.purgeChunkSize = purgeChunkSize;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency.responses");
+    }
+
+    /**
+     * 키에 대한 응답 반환 (처음 온 요청이면 action 실행 후 저장)
+     */
+    public StoredResponse execute(String key, String requestHash, Action action) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        while (true) {
+            // 1. 최근 완료된 응답
+            StoredResponse cached = completed.getIfPresent(key);
+            if (cached != null) {
+                return verified(cached, requestHash);
+            }
+
+            // 2. 같은 키를 처리 중인 요청이 있으면 끝날 때까지 대기
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                StoredResponse response = await(running, deadline);
+                if (response != null) {
+                    return verified(response, requestHash);
+                }
+                // 먼저 온 요청이 예외로 끝남 -> 다시 시도 (이번엔 직접 실행할 수도 있음)
+                continue;
+            }
+
+            // 3. 이 요청이 처리 담당
+            try {
+                StoredResponse response = executeOnce(key, requestHash, action);
+                mine.complete(response);
+                return verified(response, requestHash);
+            } catch (Exception e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+    }
+
+    private StoredResponse executeOnce(String key, String requestHash, Action action) throws Exception {
+        // 캐시에서 밀려났거나 재시작한 경우 테이블에서 조회
+        StoredResponse stored = find(key);
+        if (stored != null) {
+            if (stored.getStatusCode() == IdempotencyRecord.COMMITTED) {
+                verified(stored, requestHash);
+                throw new IdempotencyException(409, "이미 처리된 요청이지만 응답을 다시 보낼 수 없습니다. 잔액과 내역을 확인해주세요.");
+            }
+            if (stored.getStatusCode() == IdempotencyRecord.PROCESSING) {
+                if (!claimStale(key, requestHash)) {
+                    throw new IdempotencyException(409, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+                }
+            } else {
+                completed.put(key, stored);
+                return stored;
+            }
+        } else if (!claim(key, requestHash)) {
+            // 다른 인스턴스가 방금 처리를 시작함
+            throw new IdempotencyException(409, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        StoredResponse response;
+        currentKey.set(key);
+        try {
+            response = action.run();
+        } catch (Exception e) {
+            release(key);
+            throw e;
+        } finally {
+            currentKey.remove();
+        }
+
+        if (response.isStorable()) {
+            jdbcTemplate.update(COMPLETE_SQL, response.getStatusCode(), response.getContentType(),
+                    new String(response.getBody(), StandardCharsets.UTF_8), key);
+            completed.put(key, response);
+        } else {
+            release(key);
+        }
+        return response;
+    }
+
+    /**
+     * 잔액 변경 트랜잭션 커밋 직전에 같은 트랜잭션으로 '변경 커밋됨' 표시 (트랜잭션 밖이면 바로)
+     * - 한 트랜잭션에서 이벤트가 여러 번 나와도(연속 정산) 한 번만 UPDATE
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(PointBalanceChangedEvent event) {
+        String key = currentKey.get();
+        if (key == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(this)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(this, key);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(IdempotencyStore.this);
+                }
+            });
+        }
+        jdbcTemplate.update(MARK_COMMITTED_SQL, key);
+    }
+
+    private StoredResponse find(String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> {
+            String body = rs.getString("response_body");
+            return new StoredResponse(
+                    rs.getString("request_hash"),
+                    rs.getInt("status_code"),
+                    rs.getString("content_type"),
+                    body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0]);
+        }, key);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private boolean claim(String key, String requestHash) {
+        try {
+            jdbcTemplate.update(INSERT_PLACEHOLDER_SQL, key, requestHash, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private boolean claimStale(String key, String requestHash) {
+        Timestamp staleBefore = Timestamp.valueOf(LocalDateTime.now().minus(staleAfter));
+        return jdbcTemplate.update(DELETE_STALE_SQL, key, staleBefore) == 1 && claim(key, requestHash);
+    }
+
+    private void release(String key) {
+        try {
+            jdbcTemplate.update(DELETE_SQL, key);
+        } catch (RuntimeException e) {
+            // 남은 행은 stale-after 이후 다음 요청이 정리
+            log.warn("Idempotency 처리 중 행 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running, long deadline) {
+        try {
+            return running.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw new IdempotencyException(409, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(409, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private static StoredResponse verified(StoredResponse response, String requestHash) {
+        if (!response.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyException(422, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        return response;
+    }
+
+    /**
+     * 보관 기간이 지난 응답 삭제 (청크 단위)
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}",
+            initialDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Timestamp expiredBefore = Timestamp.valueOf(LocalDateTime.now().minus(ttl));
+        int deleted;
+        int total = 0;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, expiredBefore, purgeChunkSize);
+            total += deleted;
+        } while (deleted == purgeChunkSize);
+
+        if (total > 0) {
+            log.info("만료된 Idempotency 응답 삭제: {}건", total);
+        }
+    }
+}
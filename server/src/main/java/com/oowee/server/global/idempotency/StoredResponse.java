@@ -0,0 +1,22 @@
+package com.oowee.server.global.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장해둔 응답 (재시도 시 그대로 다시 내려줌)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+
+    private final String requestHash;
+    private final int statusCode;
+    private final String contentType;
+    private final byte[] body;
+
+    // 5xx 는 일시적인 오류일 수 있으므로 저장하지 않고 재시도 시 다시 실행
+    public boolean isStorable() {
+        return statusCode < 500;
+    }
+}
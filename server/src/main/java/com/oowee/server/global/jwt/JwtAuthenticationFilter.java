@@ -6,7 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -28,18 +27,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Request에서 토큰 가져오기
         String token = resolveToken(request);
 
-        // 2. 토큰이 있고, 유효하면?
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        // 2. 토큰이 있으면 한 번만 검증 (최근 검증된 토큰은 캐시에서 바로 꺼냄)
+        VerifiedToken verified = (token != null) ? jwtTokenProvider.verify(token) : null;
+
+        if (verified != null) {
             // 3. 토큰에서 이메일 가져오기
-            String email = jwtTokenProvider.getEmail(token);
+            String email = verified.getEmail();
 
             // 4. 로그인 된 유저 인증
             // TODO: 권한을 하드코딩 했지만, DB에서 꺼내올 수 있게 수정
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     email,
                     null,
                     List.of(new SimpleGrantedAuthority("ROLE_USER"))
             );
+            // 토큰 만료 시각이 필요한 곳(SSE 연결 유지 시간)에서 사용
+            authentication.setDetails(verified);
 
             // 5. 인증 등록
             SecurityContextHolder.getContext().setAuthentication(authentication);
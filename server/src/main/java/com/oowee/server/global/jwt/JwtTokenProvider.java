@@ -1,14 +1,27 @@
 package com.oowee.server.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -17,9 +30,26 @@ public class JwtTokenProvider {
     private final SecretKey key;
     private final long tokenValidityInMilliseconds;
 
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성해서 재사용
+    private final JwtParser parser;
+
+    // 최근 검증된 토큰 캐시 (키: 토큰의 SHA-256 해시, 토큰 만료 시각이 지나면 자동 제거)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer verifyTimer;
+
+    // 검증 실패 사유별 카운터
+    private final Counter rejectedSignature;
+    private final Counter rejectedExpired;
+    private final Counter rejectedUnsupported;
+    private final Counter rejectedInvalid;
+    private final Counter rejectedNoExpiry;
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long tokenValidityInMilliseconds) {
+            @Value("${jwt.expiration}") long tokenValidityInMilliseconds,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.cache.max-ttl-seconds:300}") long cacheMaxTtlSeconds,
+            MeterRegistry meterRegistry) {
 
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
 
@@ -31,6 +61,27 @@ public class JwtTokenProvider {
         this.key = Keys.hmacShaKeyFor(keyBytes);
 
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(Duration.ofSeconds(cacheMaxTtlSeconds)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("JWT 서명 검증 소요 시간 (캐시 미스)")
+                .register(meterRegistry);
+
+        this.rejectedSignature = rejectionCounter(meterRegistry, "invalid_signature");
+        this.rejectedExpired = rejectionCounter(meterRegistry, "expired");
+        this.rejectedUnsupported = rejectionCounter(meterRegistry, "unsupported");
+        this.rejectedInvalid = rejectionCounter(meterRegistry, "invalid");
+        this.rejectedNoExpiry = rejectionCounter(meterRegistry, "no_expiry");
     }
 
     // 1. 토큰 생성
@@ -46,33 +97,90 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 2. 토큰에서 이메일 꺼내기
-    public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    // 2. 토큰 검증 + 이메일 추출 (요청당 한 번만 파싱)
+    // 유효하지 않으면 null
+    public VerifiedToken verify(String token) {
+        String cacheKey = hash(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && cached.getExpiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token);
+        if (verified != null) {
+            verifiedTokens.put(cacheKey, verified);
+        }
+        return verified;
     }
 
-    // 3. 유효성 검사
-    public boolean validateToken(String token) {
+    private VerifiedToken parse(String token) {
+        long start = System.nanoTime();
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                log.error("만료 시간이 없는 JWT 토큰입니다.");
+                rejectedNoExpiry.increment();
+                return null;
+            }
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.");
+            rejectedSignature.increment();
         } catch (ExpiredJwtException e) {
             log.error("만료된 JWT 토큰입니다.");
+            rejectedExpired.increment();
         } catch (UnsupportedJwtException e) {
             log.error("지원되지 않는 JWT 토큰입니다.");
+            rejectedUnsupported.increment();
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰이 잘못되었습니다.");
+            rejectedInvalid.increment();
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return null;
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("jwt.rejected")
+                .description("JWT 검증 실패 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 유지 시간 = min(토큰 남은 유효 시간, 최대 TTL)
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), value.getExpiresAt()).toNanos();
+            return Math.max(0L, Math.min(untilExpiry, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 }
@@ -0,0 +1,17 @@
+package com.oowee.server.global.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final String email;
+    private final Instant expiresAt;
+}
@@ -0,0 +1,11 @@
+package com.oowee.server.global.security;
+
+/**
+ * 비밀번호 해시 작업이 밀려서 처리할 수 없음 (503 + Retry-After)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,262 @@
+package com.oowee.server.domain.game.service;
+
+import com.oowee.server.domain.game.dto.GameRequest;
+import com.oowee.server.domain.game.repository.DiceTableRoundRepository;
+import com.oowee.server.domain.game.rng.DiceRandom;
+import com.oowee.server.domain.member.entity.Member;
+import com.oowee.server.domain.member.entity.Role;
+import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.point.dto.BulkPayout;
+import com.oowee.server.domain.point.engine.BalanceMode;
+import com.oowee.server.domain.point.service.BulkPayoutService;
+import com.oowee.server.domain.point.service.PointService;
+import com.oowee.server.domain.push.service.PushService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 멀티플레이 테이블 정산 확인 (로컬 H2)
+ * - 청크 크기보다 많은 베팅을 청크 여러 개로 나눠 정산 (지급 UPDATE 배치 + GAME 내역)
+ * - 재시작 시 정산이 끝나지 않은 라운드 복구 (마감 전 라운드는 결과 확정 후 정산, 이미 지급한 베팅은 다시 처리하지 않음)
+ * - 서비스는 테스트마다 직접 만들어 시작/종료 (game.table.enabled 는 끈 채로)
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:dice_table;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+        + "LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE")
+class DiceTableServiceTest {
+
+    private static final long INITIAL_POINTS = 100_000L;
+    private static final long BET = 1_000L;
+    private static final int CHUNK_SIZE = 3;
+    private static final long TIMEOUT_MILLIS = 30_000L;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private BulkPayoutService bulkPayoutService;
+
+    @Autowired
+    private PushService pushService;
+
+    @Autowired
+    private DiceTableRoundRepository roundRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DiceRandom diceRandom;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private DiceTableService table;
+
+    @AfterEach
+    void tearDown() {
+        if (table != null) {
+            table.stop();
+        }
+    }
+
+    @Test
+    void 청크_크기보다_많은_베팅을_나눠서_정산() throws Exception {
+        List<Member> members = prepareMembers("chunk", 7);
+        table = startTable(2_000L);
+
+        Long roundId = awaitOpenRound();
+        for (int i = 0; i < members.size(); i++) {
+            String bettingType = i % 2 == 0 ? "ODD" : "EVEN";
+            table.placeBet(members.get(i).getEmail(), jsonMapper.readValue(
+                    "{\"betAmount\":" + BET + ",\"bettingType\":\"" + bettingType + "\"}", GameRequest.class));
+        }
+        awaitSettled(roundId);
+
+        String result = jdbcTemplate.queryForObject(
+                "SELECT result FROM dice_table_round WHERE round_id = ?", String.class, roundId);
+        long expectedPayout = 0L;
+        for (Member member : members) {
+            Map<String, Object> bet = jdbcTemplate.queryForMap(
+                    "SELECT betting_type, payout_amount FROM dice_table_bet WHERE round_id = ? AND member_id = ?",
+                    roundId, member.getId());
+            long payout = result.equals(bet.get("betting_type")) ? BET * 2 : 0L;
+            expectedPayout += payout;
+
+            assertEquals(payout, ((Number) bet.get("payout_amount")).longValue());
+            assertEquals(INITIAL_POINTS - BET + payout, balance(member));
+            assertBalanceMatchesLedger(member);
+            assertEquals(1, gameRows(member));
+        }
+
+        Map<String, Object> round = jdbcTemplate.queryForMap(
+                "SELECT status, bet_count, total_bet, total_payout FROM dice_table_round WHERE round_id = ?", roundId);
+        assertEquals("SETTLED", round.get("status"));
+        assertEquals(7, ((Number) round.get("bet_count")).intValue());
+        assertEquals(BET * 7, ((Number) round.get("total_bet")).longValue());
+        assertEquals(expectedPayout, ((Number) round.get("total_payout")).longValue());
+    }
+
+    @Test
+    void 재시작하면_정산이_끝나지_않은_라운드를_이어서_정산() {
+        List<Member> members = prepareMembers("recover", 9);
+
+        // 1. 마감 후 청크 하나(2건)만 지급하고 멈춘 라운드: 결과 ODD, 앞의 두 베팅은 이미 지급 0 으로 처리됨
+        Long closedRoundId = insertRound("CLOSED", 3, "ODD");
+        for (int i = 0; i < 7; i++) {
+            Long payout = i < 2 ? 0L : null;
+            String bettingType = i < 2 ? "EVEN" : (i % 2 == 0 ? "ODD" : "EVEN");
+            insertBet(closedRoundId, members.get(i), bettingType, payout);
+        }
+
+        // 2. 마감 전에 멈춘 라운드: 결과 없음
+        Long openRoundId = insertRound("OPEN", null, null);
+        insertBet(openRoundId, members.get(7), "ODD", null);
+        insertBet(openRoundId, members.get(8), "EVEN", null);
+
+        table = startTable(60_000L);
+        awaitSettled(closedRoundId);
+        awaitSettled(openRoundId);
+
+        // 이미 지급한 두 베팅은 내역/잔액이 바뀌지 않음 (베팅 차감은 테스트에서 하지 않았으므로 잔액은 초기값 + 지급액)
+        for (int i = 0; i < 2; i++) {
+            assertEquals(INITIAL_POINTS, balance(members.get(i)));
+            assertEquals(0, gameRows(members.get(i)));
+        }
+        for (int i = 2; i < 7; i++) {
+            long payout = i % 2 == 0 ? BET * 2 : 0L;
+            assertEquals(INITIAL_POINTS + payout, balance(members.get(i)));
+            assertEquals(1, gameRows(members.get(i)));
+        }
+        Map<String, Object> closedRound = jdbcTemplate.queryForMap(
+                "SELECT bet_count, total_payout FROM dice_table_round WHERE round_id = ?", closedRoundId);
+        assertEquals(7, ((Number) closedRound.get("bet_count")).intValue());
+        assertEquals(BET * 2 * 3, ((Number) closedRound.get("total_payout")).longValue());
+
+        // 마감 전 라운드는 복구할 때 결과를 정하고 그 결과로 정산
+        String result = jdbcTemplate.queryForObject(
+                "SELECT result FROM dice_table_round WHERE round_id = ?", String.class, openRoundId);
+        assertNotNull(result);
+        assertEquals(INITIAL_POINTS + ("ODD".equals(result) ? BET * 2 : 0L), balance(members.get(7)));
+        assertEquals(INITIAL_POINTS + ("EVEN".equals(result) ? BET * 2 : 0L), balance(members.get(8)));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dice_table_bet WHERE round_id IN (?, ?) AND payout_amount IS NULL",
+                Integer.class, closedRoundId, openRoundId));
+    }
+
+    @Test
+    void 일괄_지급은_트랜잭션_밖에서_호출할_수_없음() {
+        assertThrows(IllegalStateException.class, () -> bulkPayoutService.settle(
+                List.of(new BulkPayout(1L, "none@test.com", BET, BET * 2))));
+    }
+
+    private DiceTableService startTable(long bettingWindowMillis) {
+        DiceTableService service = new DiceTableService(pointService, bulkPayoutService, pushService,
+                roundRepository, jdbcTemplate, transactionTemplate, diceRandom, meterRegistry,
+                BalanceMode.LOCKING, bettingWindowMillis, 0L, CHUNK_SIZE);
+        service.start();
+        return service;
+    }
+
+    private List<Member> prepareMembers(String prefix, int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(Member.builder()
+                    .email(prefix + i + "@table.com")
+                    .password("{noop}table")
+                    .nickname(prefix.charAt(0) + "t" + i)
+                    .role(Role.USER)
+                    .build());
+        }
+        memberRepository.saveAll(members);
+        members.forEach(member -> pointService.chargePoints(member.getEmail(), INITIAL_POINTS));
+        return members;
+    }
+
+    private Long insertRound(String status, Integer diceNumber, String result) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO dice_table_round (status, dice_number, result, opened_at, closes_at) "
+                        + "VALUES (?, ?, ?, ?, ?)", status, diceNumber, result,
+                Timestamp.valueOf(now.minusSeconds(30)), Timestamp.valueOf(now.minusSeconds(15)));
+        return jdbcTemplate.queryForObject("SELECT MAX(round_id) FROM dice_table_round", Long.class);
+    }
+
+    private void insertBet(Long roundId, Member member, String bettingType, Long payout) {
+        jdbcTemplate.update("INSERT INTO dice_table_bet "
+                        + "(round_id, member_id, betting_type, bet_amount, payout_amount, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", roundId, member.getId(), bettingType, BET, payout,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private Long awaitOpenRound() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (table.getState().isOpen()) {
+                return table.getState().getRoundId();
+            }
+            Thread.sleep(10);
+        }
+        return fail("라운드가 열리지 않음");
+    }
+
+    private void awaitSettled(Long roundId) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            String status = jdbcTemplate.queryForObject(
+                    "SELECT status FROM dice_table_round WHERE round_id = ?", String.class, roundId);
+            if ("SETTLED".equals(status)) {
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        fail("라운드 정산이 끝나지 않음: roundId=" + roundId);
+    }
+
+    private long balance(Member member) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_points FROM member WHERE member_id = ?", Long.class, member.getId());
+    }
+
+    private int gameRows(Member member) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history WHERE member_id = ? AND type = 'GAME'",
+                Integer.class, member.getId());
+    }
+
+    private void assertBalanceMatchesLedger(Member member) {
+        long ledgerSum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM point_history WHERE member_id = ?", Long.class, member.getId());
+        assertEquals(ledgerSum, balance(member));
+    }
+}
@@ -0,0 +1,107 @@
+package com.oowee.server.domain.payment.client;
+
+import com.oowee.server.domain.payment.dto.PortOnePaymentResponse;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버로 포트원 클라이언트 동작 확인 (타임아웃, 서킷 브레이커)
+ */
+class PortOneClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger delayMillis = new AtomicInteger(0);
+    private final AtomicInteger hits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/payments/", exchange -> {
+            hits.incrementAndGet();
+            sleep(delayMillis.get());
+            byte[] body = ("{\"status\":\"PAID\",\"orderName\":\"포인트 충전\",\"amount\":{\"total\":1000}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 결제_조회_성공() {
+        PortOnePaymentResponse response = client(5).getPayment("payment-1");
+
+        assertEquals("PAID", response.getStatus());
+        assertEquals(1000L, response.getAmount().getTotal());
+    }
+
+    @Test
+    void 응답_지연시_타임아웃() {
+        delayMillis.set(1000);
+
+        assertThrows(PortOneUnavailableException.class, () -> client(5).getPayment("payment-1"));
+    }
+
+    @Test
+    void 연속_5xx_이후_서킷_오픈() {
+        status.set(500);
+        PortOneClient client = client(3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(PortOneUnavailableException.class, () -> client.getPayment("payment-1"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+        // 서킷이 열린 뒤에는 서버를 호출하지 않음
+        int before = hits.get();
+        assertThrows(PortOneUnavailableException.class, () -> client.getPayment("payment-1"));
+        assertEquals(before, hits.get());
+    }
+
+    @Test
+    void 클라이언트_오류는_서킷에_반영하지_않음() {
+        status.set(404);
+        PortOneClient client = client(1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> client.getPayment("payment-1"));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    private PortOneClient client(int failureThreshold) {
+        return new PortOneClient(
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                "test-secret",
+                500, 300, 4, 100, failureThreshold, 60_000,
+                new SimpleMeterRegistry());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
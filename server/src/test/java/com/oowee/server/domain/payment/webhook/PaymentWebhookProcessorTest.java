@@ -0,0 +1,171 @@
+package com.oowee.server.domain.payment.webhook;
+
+import com.oowee.server.domain.member.entity.Member;
+import com.oowee.server.domain.member.repository.MemberRepository;
+import com.oowee.server.domain.payment.client.PortOneClient;
+import com.oowee.server.domain.payment.client.PortOneUnavailableException;
+import com.oowee.server.domain.payment.dto.PortOnePaymentResponse;
+import com.oowee.server.domain.payment.repository.PaymentRepository;
+import com.oowee.server.domain.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * H2 메모리 DB 의 inbox 테이블과 목 포트원/저장소로 웹훅 처리 파이프라인 확인
+ * (같은 결제 합치기, 결제별 확정과 실패한 결제만 재시도, 포트원 장애 시 재시도)
+ */
+class PaymentWebhookProcessorTest {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final PortOneClient portOneClient = mock(PortOneClient.class);
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final PointService pointService = mock(PointService.class);
+
+    // 첫 묶음("blocker" 결제 조회)을 붙잡아 두고, 그 사이에 들어온 웹훅이 다음 묶음으로 모이게 함
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private PaymentWebhookProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:webhook_inbox;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS payment_webhook_inbox");
+        jdbcTemplate.execute("CREATE TABLE payment_webhook_inbox (payment_id VARCHAR(255) PRIMARY KEY, "
+                + "received_count INT NOT NULL, attempts INT NOT NULL, "
+                + "available_at TIMESTAMP NOT NULL, received_at TIMESTAMP NOT NULL)");
+
+        when(pointService.joinsCallerTransaction()).thenReturn(true);
+        when(paymentRepository.markPaid(anyString(), any())).thenReturn(1);
+        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(mock(Member.class)));
+        when(portOneClient.getPayment("blocker")).thenAnswer(invocation -> {
+            blocked.countDown();
+            gate.await();
+            return response("blocker", "FAILED", "blocker@oowee.com");
+        });
+
+        meterRegistry = new SimpleMeterRegistry();
+        // 재시도 간격과 폴링 주기를 길게 잡아 테스트 중에는 다시 가져가지 않게 함
+        processor = new PaymentWebhookProcessor(portOneClient, paymentRepository, memberRepository, pointService,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                mock(ApplicationEventPublisher.class), jdbcTemplate, meterRegistry,
+                50, 60_000, 60_000, 60, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gate.countDown();
+        processor.stop();
+    }
+
+    @Test
+    void 종료된_상태면_접수하지_않음() {
+        assertFalse(processor.enqueue("payment-1"));
+        assertEquals(0, count());
+    }
+
+    @Test
+    void 같은_결제의_웹훅은_한_행으로_합쳐서_한_번만_처리() throws Exception {
+        when(portOneClient.getPayment("payment-1")).thenReturn(response("payment-1", "PAID", "a@oowee.com"));
+        holdWorker();
+
+        assertTrue(processor.enqueue("payment-1"));
+        assertTrue(processor.enqueue("payment-1"));
+        assertEquals(2, count()); // blocker + payment-1
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT received_count FROM payment_webhook_inbox WHERE payment_id = 'payment-1'", Integer.class));
+
+        gate.countDown();
+        await(() -> count() == 0);
+
+        verify(portOneClient, times(1)).getPayment("payment-1");
+        verify(pointService, times(1)).chargePoints("a@oowee.com", 1000L);
+    }
+
+    @Test
+    void 결제마다_따로_확정하고_실패한_결제만_남김() throws Exception {
+        when(portOneClient.getPayment("good")).thenReturn(response("good", "PAID", "good@oowee.com"));
+        when(portOneClient.getPayment("bad")).thenReturn(response("bad", "PAID", "bad@oowee.com"));
+        when(pointService.chargePoints("bad@oowee.com", 1000L)).thenThrow(new IllegalStateException("충전 실패"));
+        holdWorker();
+
+        processor.enqueue("good");
+        processor.enqueue("bad");
+        gate.countDown();
+        await(() -> count() == 1 && attempts("bad") == 1);
+
+        assertEquals(1.0, meterRegistry.counter("payment.webhook.confirmed").count());
+        verify(pointService, times(1)).chargePoints("good@oowee.com", 1000L); // 다른 결제 실패와 무관하게 한 번
+    }
+
+    @Test
+    void 포트원_장애면_inbox_에_남겨서_나중에_다시_시도() throws Exception {
+        when(portOneClient.getPayment("payment-1")).thenThrow(new PortOneUnavailableException("서킷 OPEN"));
+        processor.start();
+
+        long before = System.currentTimeMillis();
+        processor.enqueue("payment-1");
+        await(() -> attempts("payment-1") == 1);
+
+        Timestamp availableAt = jdbcTemplate.queryForObject(
+                "SELECT available_at FROM payment_webhook_inbox WHERE payment_id = 'payment-1'", Timestamp.class);
+        assertTrue(availableAt.getTime() > before + 30_000);
+        verify(pointService, never()).chargePoints(anyString(), any());
+    }
+
+    private void holdWorker() throws InterruptedException {
+        processor.start();
+        processor.enqueue("blocker");
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_webhook_inbox", Integer.class);
+    }
+
+    private int attempts(String paymentId) {
+        return jdbcTemplate.queryForList("SELECT attempts FROM payment_webhook_inbox WHERE payment_id = ?",
+                Integer.class, paymentId).stream().findFirst().orElse(-1);
+    }
+
+    private static PortOnePaymentResponse response(String paymentId, String status, String email) {
+        return JSON.readValue("{\"id\":\"" + paymentId + "\",\"status\":\"" + status + "\","
+                + "\"amount\":{\"total\":1000},\"customer\":{\"email\":\"" + email + "\"}}",
+                PortOnePaymentResponse.class);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("시간 안에 처리되지 않음");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.oowee.server.domain.payment.webhook;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로컬 웹훅 재생기
+ * 파일에 한 줄에 하나씩 적힌 웹훅 본문(JSON)을 포트원과 같은 방식으로 서명해서 로컬 서버로 전송
+ *
+ * 사용: WebhookReplayer {파일} [url] [반복 횟수]
+ * - 시크릿은 PORTONE_WEBHOOK_SECRET 환경 변수 (서버와 같은 값)
+ * - 반복 횟수를 2 이상으로 주면 같은 이벤트를 여러 번 보내서 중복 처리(합치기, 멱등성)를 확인할 수 있음
+ * - 200 이면 payment_webhook_inbox 에 저장된 것 (확정은 워커가 이어서 처리, 서버 재시작 후에도 남아 있음)
+ */
+public class WebhookReplayer {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("사용: WebhookReplayer {파일} [url] [반복 횟수]");
+            return;
+        }
+
+        Path file = Path.of(args[0]);
+        String url = args.length > 1 ? args[1] : "http://localhost:8080/api/payments/webhook";
+        int repeat = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        String secret = System.getenv("PORTONE_WEBHOOK_SECRET");
+        if (secret == null || secret.isBlank()) {
+            System.err.println("PORTONE_WEBHOOK_SECRET 환경 변수가 필요합니다.");
+            return;
+        }
+        byte[] key = Base64.getDecoder().decode(secret.startsWith("whsec_") ? secret.substring(6) : secret);
+
+        List<String> events = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.isBlank())
+                .toList();
+
+        HttpClient client = HttpClient.newHttpClient();
+        for (String body : events) {
+            for (int i = 0; i < repeat; i++) {
+                String webhookId = "msg_" + UUID.randomUUID();
+                String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+                String signature = "v1," + sign(key, webhookId + "." + timestamp + "." + body);
+
+                HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/json")
+                        .header("webhook-id", webhookId)
+                        .header("webhook-timestamp", timestamp)
+                        .header("webhook-signature", signature)
+                        .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                        .build();
+
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                System.out.println(response.statusCode() + " " + webhookId + " " + body);
+            }
+        }
+    }
+
+    private static String sign(byte[] key, String content) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
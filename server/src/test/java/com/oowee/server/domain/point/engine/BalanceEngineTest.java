@@ -0,0 +1,153 @@
+package com.oowee.server.domain.point.engine;
+
+import com.oowee.server.domain.point.dto.SettlementResult;
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.ledger.LedgerIdAllocator;
+import com.oowee.server.domain.point.ledger.PointLedgerWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2 메모리 DB 에 실제 저널(JdbcBalanceJournal + PointLedgerWriter)을 붙여 밸런스 엔진 확인
+ * (동시 변경 후 잔액 == 내역 합계, 잔액 부족 거절, 연속 정산이 부족한 라운드에서 멈춤)
+ */
+class BalanceEngineTest {
+
+    private static final String URL = "jdbc:h2:mem:balance_engine;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final int MEMBERS = 10;
+    private static final long INITIAL_POINTS = 10_000L;
+
+    private JdbcTemplate jdbcTemplate;
+    private LedgerIdAllocator idAllocator;
+    private PointLedgerWriter ledgerWriter;
+    private BalanceEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS member");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS point_history");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_sequence");
+        jdbcTemplate.execute("CREATE TABLE member (member_id BIGINT PRIMARY KEY, "
+                + "current_points BIGINT NOT NULL, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE point_history (point_history_id BIGINT PRIMARY KEY, "
+                + "member_id BIGINT NOT NULL, amount BIGINT NOT NULL, type VARCHAR(20) NOT NULL, "
+                + "bet_amount BIGINT, payout_amount BIGINT, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE id_sequence (sequence_name VARCHAR(64) PRIMARY KEY, next_val BIGINT NOT NULL)");
+        for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+            jdbcTemplate.update("INSERT INTO member (member_id, current_points) VALUES (?, ?)", memberId, INITIAL_POINTS);
+        }
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(URL);
+        properties.setUsername("sa");
+        properties.setPassword("");
+        idAllocator = new LedgerIdAllocator(properties, 16);
+
+        ledgerWriter = new PointLedgerWriter(jdbcTemplate, idAllocator, new SimpleMeterRegistry(),
+                100, 10_000, 200, 5_000);
+        JdbcBalanceJournal journal = new JdbcBalanceJournal(
+                jdbcTemplate, ledgerWriter, new DataSourceTransactionManager(dataSource));
+        engine = new BalanceEngine(journal, 4, 64, 10_000, 100, 5_000);
+
+        ledgerWriter.start();
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+        ledgerWriter.stop();
+        idAllocator.close();
+    }
+
+    @Test
+    void 동시_변경_후_잔액은_내역_합계와_같음() throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < 50; w++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 40; i++) {
+                        long memberId = 1 + random.nextInt(MEMBERS);
+                        try {
+                            switch (random.nextInt(3)) {
+                                case 0 -> engine.apply(memberId, 500L, PointType.CHARGE);
+                                case 1 -> engine.apply(memberId, -700L, PointType.USE);
+                                default -> engine.applySettlement(memberId, 1000L, random.nextBoolean() ? 2000L : 0L);
+                            }
+                        } catch (IllegalArgumentException e) {
+                            // 잔액 부족 (정상 거절)
+                        }
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+            long balance = jdbcTemplate.queryForObject(
+                    "SELECT current_points FROM member WHERE member_id = ?", Long.class, memberId);
+            long ledgerSum = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(amount), 0) FROM point_history WHERE member_id = ?", Long.class, memberId);
+
+            assertTrue(balance >= 0);
+            assertEquals(INITIAL_POINTS + ledgerSum, balance, "회원 " + memberId);
+            // 엔진이 기억하는 잔액도 DB 와 같음 (0 변경으로 현재 값 확인)
+            assertEquals(balance, engine.apply(memberId, 0L, PointType.CHARGE));
+        }
+    }
+
+    @Test
+    void 잔액이_부족하면_거절하고_내역을_남기지_않음() {
+        assertThrows(IllegalArgumentException.class, () -> engine.apply(1L, -INITIAL_POINTS - 1, PointType.USE));
+        assertThrows(IllegalArgumentException.class, () -> engine.apply(999L, 100L, PointType.CHARGE));
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_history", Integer.class));
+        assertEquals(INITIAL_POINTS, jdbcTemplate.queryForObject(
+                "SELECT current_points FROM member WHERE member_id = 1", Long.class));
+    }
+
+    @Test
+    void 연속_정산은_베팅_금액이_부족한_라운드에서_멈춤() {
+        // 10,000 -> 6,000 -> 2,000 -> (세 번째 라운드 베팅 4,000 부족)
+        SettlementResult result = engine.applySettlements(1L,
+                new long[]{4_000L, 4_000L, 4_000L}, new long[]{0L, 0L, 8_000L});
+
+        assertEquals(2, result.getSettledRounds());
+        assertEquals(2_000L, result.getBalance());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history WHERE member_id = 1 AND type = 'GAME'", Integer.class));
+        assertEquals(2_000L, jdbcTemplate.queryForObject(
+                "SELECT current_points FROM member WHERE member_id = 1", Long.class));
+    }
+
+    @Test
+    void 트랜잭션_안에서는_호출할_수_없음() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(
+                status -> engine.apply(1L, 100L, PointType.CHARGE)));
+    }
+}
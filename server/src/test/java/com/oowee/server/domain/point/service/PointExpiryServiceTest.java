@@ -0,0 +1,240 @@
+package com.oowee.server.domain.point.service;
+
+import com.oowee.server.domain.point.engine.BalanceMode;
+import com.oowee.server.domain.point.entity.PointType;
+import com.oowee.server.domain.point.ledger.LedgerIdAllocator;
+import com.oowee.server.domain.point.ledger.PointLedgerWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2 메모리 DB 로 프로모션 포인트 소멸 작업 확인
+ * - 선입선출: 사용은 종류와 상관없이 가장 오래된 적립부터, 남은 기준일 이전 프로모션 적립만 소멸
+ * - 청크 여러 개에 걸친 회원들 (일부 사용, 이전 소멸, 유효기간 안의 적립)
+ * - point_expiry_checkpoint 의 진행 위치부터 재시작, lease 가 끝난 구간 넘겨받기
+ */
+class PointExpiryServiceTest {
+
+    private static final String URL = "jdbc:h2:mem:point_expiry;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final int VALIDITY_DAYS = 365;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private LedgerIdAllocator idAllocator;
+    private PointLedgerWriter ledgerWriter;
+    private long nextHistoryId = 1;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS member");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS point_history");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_sequence");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS point_expiry_checkpoint");
+        jdbcTemplate.execute("CREATE TABLE member (member_id BIGINT PRIMARY KEY, email VARCHAR(100) NOT NULL, "
+                + "current_points BIGINT NOT NULL, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE point_history (point_history_id BIGINT PRIMARY KEY, "
+                + "member_id BIGINT NOT NULL, amount BIGINT NOT NULL, type VARCHAR(20) NOT NULL, "
+                + "bet_amount BIGINT, payout_amount BIGINT, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE id_sequence (sequence_name VARCHAR(64) PRIMARY KEY, next_val BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE point_expiry_checkpoint (run_date DATE NOT NULL, partition_no INT NOT NULL, "
+                + "range_start BIGINT NOT NULL, range_end BIGINT NOT NULL, last_member_id BIGINT NOT NULL, "
+                + "expired_members BIGINT NOT NULL, expired_points BIGINT NOT NULL, owner VARCHAR(100), "
+                + "lease_until TIMESTAMP, completed_at TIMESTAMP, updated_at TIMESTAMP, "
+                + "PRIMARY KEY (run_date, partition_no))");
+        nextHistoryId = 1;
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(URL);
+        properties.setUsername("sa");
+        properties.setPassword("");
+        idAllocator = new LedgerIdAllocator(properties, 16);
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        ledgerWriter = new PointLedgerWriter(jdbcTemplate, idAllocator, new SimpleMeterRegistry(),
+                100, 10_000, 200, 5_000);
+        ledgerWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledgerWriter.stop();
+        idAllocator.close();
+    }
+
+    @Test
+    void 사용은_가장_오래된_적립부터_차감하고_남은_프로모션_적립만_소멸() {
+        // 충전 -> 프로모션 -> 사용: 사용은 충전분에서 나가므로 프로모션 1,000 이 그대로 소멸
+        member(1, charge(10_000, 400), reward(1_000, 390), use(1_000, 10));
+        // 프로모션 일부 사용: 남은 600 소멸
+        member(2, reward(1_000, 400), use(400, 100));
+        // 기준일 이전 적립만 소멸, 유효기간 안의 적립은 남김
+        member(3, reward(500, 400), reward(700, 10));
+        // 모두 사용했으면 소멸 없음 (이후 충전은 대상 아님)
+        member(4, reward(1_000, 400), use(1_000, 200), charge(2_000, 5));
+        // 프로모션 적립 없음
+        member(5, charge(3_000, 10));
+        // 이전에 일부 소멸됨: 남은 600 만 소멸
+        member(6, reward(1_000, 400), expired(400, 30));
+
+        // 청크 크기 2 -> 회원 6명이 청크 세 개로 나뉨
+        service(2, 1, 1).runExpiry();
+
+        assertEquals(9_000L, balance(1));
+        assertEquals(0L, balance(2));
+        assertEquals(700L, balance(3));
+        assertEquals(2_000L, balance(4));
+        assertEquals(3_000L, balance(5));
+        assertEquals(0L, balance(6));
+        for (long memberId = 1; memberId <= 6; memberId++) {
+            assertBalanceMatchesLedger(memberId);
+        }
+
+        Map<String, Object> checkpoint = checkpoint(0);
+        assertNotNull(checkpoint.get("completed_at"));
+        assertEquals(4L, ((Number) checkpoint.get("expired_members")).longValue());
+        assertEquals(1_000L + 600L + 500L + 600L, ((Number) checkpoint.get("expired_points")).longValue());
+
+        // 진행 기록을 지우고 다시 실행해도 이미 소멸된 금액을 빼고 계산하므로 추가 차감 없음
+        jdbcTemplate.update("DELETE FROM point_expiry_checkpoint");
+        service(2, 1, 1).runExpiry();
+        assertEquals(5, expireRows());
+        assertEquals(9_000L, balance(1));
+        assertEquals(700L, balance(3));
+    }
+
+    @Test
+    void 중단된_구간은_기록된_위치부터_이어서_처리() {
+        for (long memberId = 1; memberId <= 4; memberId++) {
+            member(memberId, reward(1_000, 400));
+        }
+        // 회원 2 까지 처리하고 멈춘 구간 (lease 없음)
+        checkpointRow(0, 0, Long.MAX_VALUE, 2, 1, 1_000, null, null);
+
+        service(2, 1, 1).runExpiry();
+
+        assertEquals(1_000L, balance(1));
+        assertEquals(1_000L, balance(2));
+        assertEquals(0L, balance(3));
+        assertEquals(0L, balance(4));
+
+        Map<String, Object> checkpoint = checkpoint(0);
+        assertNotNull(checkpoint.get("completed_at"));
+        assertEquals(4L, ((Number) checkpoint.get("last_member_id")).longValue());
+        assertEquals(3L, ((Number) checkpoint.get("expired_members")).longValue());
+        assertEquals(3_000L, ((Number) checkpoint.get("expired_points")).longValue());
+    }
+
+    @Test
+    void lease_가_끝난_구간만_넘겨받음() {
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            member(memberId, reward(1_000, 400));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 회원 1 까지 처리하고 멈춘 작업자 (lease 만료) / 아직 lease 가 남은 작업자
+        checkpointRow(0, 0, 3, 1, 1, 1_000, "dead-worker", now.minusMinutes(5));
+        checkpointRow(1, 3, Long.MAX_VALUE, 3, 0, 0, "live-worker", now.plusMinutes(5));
+
+        service(2, 2, 2).runExpiry();
+
+        // 만료된 구간: 기록된 위치 다음부터 처리 후 완료
+        assertEquals(1_000L, balance(1));
+        assertEquals(0L, balance(2));
+        assertEquals(0L, balance(3));
+        Map<String, Object> takenOver = checkpoint(0);
+        assertNotNull(takenOver.get("completed_at"));
+        assertNull(takenOver.get("owner"));
+        assertEquals(3L, ((Number) takenOver.get("expired_members")).longValue());
+
+        // 살아 있는 작업자의 구간은 건드리지 않음
+        assertEquals(1_000L, balance(4));
+        assertEquals(1_000L, balance(5));
+        Map<String, Object> stillOwned = checkpoint(1);
+        assertNull(stillOwned.get("completed_at"));
+        assertEquals("live-worker", stillOwned.get("owner"));
+    }
+
+    private PointExpiryService service(int chunkSize, int workers, int partitions) {
+        return new PointExpiryService(jdbcTemplate, transactionTemplate, ledgerWriter, event -> {
+        }, new SimpleMeterRegistry(), BalanceMode.LOCKING, true, List.of(PointType.REWARD),
+                VALIDITY_DAYS, chunkSize, workers, partitions, 120);
+    }
+
+    // 내역을 넣고 잔액은 내역 합계로
+    private void member(long memberId, Object[]... history) {
+        long balance = 0;
+        for (Object[] row : history) {
+            long amount = (long) row[0];
+            jdbcTemplate.update("INSERT INTO point_history (point_history_id, member_id, amount, type, created_at) "
+                            + "VALUES (?, ?, ?, ?, ?)", nextHistoryId++, memberId, amount, row[1],
+                    Timestamp.valueOf(LocalDateTime.now().minusDays((int) row[2])));
+            balance += amount;
+        }
+        jdbcTemplate.update("INSERT INTO member (member_id, email, current_points) VALUES (?, ?, ?)",
+                memberId, "m" + memberId + "@expiry.com", balance);
+    }
+
+    private static Object[] charge(long amount, int daysAgo) {
+        return new Object[]{amount, "CHARGE", daysAgo};
+    }
+
+    private static Object[] reward(long amount, int daysAgo) {
+        return new Object[]{amount, "REWARD", daysAgo};
+    }
+
+    private static Object[] use(long amount, int daysAgo) {
+        return new Object[]{-amount, "USE", daysAgo};
+    }
+
+    private static Object[] expired(long amount, int daysAgo) {
+        return new Object[]{-amount, "EXPIRE", daysAgo};
+    }
+
+    private void checkpointRow(int partition, long rangeStart, long rangeEnd, long lastMemberId,
+                               long expiredMembers, long expiredPoints, String owner, LocalDateTime leaseUntil) {
+        jdbcTemplate.update("INSERT INTO point_expiry_checkpoint (run_date, partition_no, range_start, range_end, "
+                        + "last_member_id, expired_members, expired_points, owner, lease_until, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                Date.valueOf(LocalDate.now()), partition, rangeStart, rangeEnd, lastMemberId, expiredMembers,
+                expiredPoints, owner, leaseUntil == null ? null : Timestamp.valueOf(leaseUntil),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private Map<String, Object> checkpoint(int partition) {
+        return jdbcTemplate.queryForMap("SELECT * FROM point_expiry_checkpoint WHERE run_date = ? AND partition_no = ?",
+                Date.valueOf(LocalDate.now()), partition);
+    }
+
+    private long balance(long memberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_points FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+
+    private int expireRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history WHERE type = 'EXPIRE'", Integer.class);
+    }
+
+    private void assertBalanceMatchesLedger(long memberId) {
+        long ledgerSum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM point_history WHERE member_id = ?", Long.class, memberId);
+        assertEquals(ledgerSum, balance(memberId), "회원 " + memberId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.oowee.server.domain.point.service;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * PointServiceLoadTest 와 같은 시나리오를 ENGINE 모드(메모리 밸런스 엔진)로 실행
+ * - 별도 H2 DB 를 써서 LOCKING 모드 컨텍스트와 테이블을 공유하지 않음
+ *
+ * 실행: ./gradlew loadTest
+ */
+@TestPropertySource(properties = {
+        "point.balance.mode=ENGINE",
+        "spring.datasource.url=jdbc:h2:mem:loadtest_engine;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE"
+})
+class PointServiceEngineLoadTest extends PointServiceLoadTest {
+}
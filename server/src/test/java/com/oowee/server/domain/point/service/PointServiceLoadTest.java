@@ -0,0 +1,210 @@
+package com.oowee.server.domain.point.service;
+
+import com.oowee.server.domain.game.dto.GameRequest;
+import com.oowee.server.domain.game.service.GameService;
+import com.oowee.server.domain.member.entity.Member;
+import com.oowee.server.domain.member.entity.Role;
+import com.oowee.server.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 포인트/게임 동시성 부하 테스트 (로컬 H2, 기본 test 태스크에서는 제외)
+ * - 가상 스레드 수백 개가 충전/사용/주사위 게임을 섞어서 호출
+ * - HOT_KEY: 대부분의 요청이 한 회원에게 몰림 / UNIFORM: 전체 회원에 고르게 분산
+ * - 처리량, 지연시간(p50/p99/p999), 잔액 행 락 대기, 커넥션 대기 시간 출력
+ * - 불변식: 음수 잔액 없음, 회원 잔액 == 포인트 내역 합계
+ * - ENGINE 모드 실행은 PointServiceEngineLoadTest
+ *
+ * 실행: ./gradlew loadTest
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class PointServiceLoadTest {
+
+    private static final int MEMBERS = 1000;
+    private static final int WORKERS = 500;
+    private static final int OPS_PER_WORKER = 40;
+    private static final long INITIAL_POINTS = 100_000L;
+    private static final long AMOUNT = 1000L;
+
+    enum Distribution {
+        HOT_KEY, UNIFORM
+    }
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @ParameterizedTest
+    @EnumSource(Distribution.class)
+    void 동시_충전_사용_게임(Distribution distribution) throws Exception {
+        List<String> emails = prepareMembers(distribution.name().toLowerCase());
+        GameRequest gameRequest = jsonMapper.readValue(
+                "{\"betAmount\":" + AMOUNT + ",\"bettingType\":\"ODD\"}", GameRequest.class);
+
+        double lockWaitBefore = totalMillis("point.balance.lock");
+        long lockCountBefore = count("point.balance.lock");
+        double acquireBefore = totalMillis("hikaricp.connections.acquire");
+
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>(WORKERS);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < WORKERS; w++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[OPS_PER_WORKER];
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                    for (int i = 0; i < OPS_PER_WORKER; i++) {
+                        String email = emails.get(pick(distribution, random));
+                        int op = random.nextInt(10);
+
+                        long opStart = System.nanoTime();
+                        try {
+                            if (op < 3) {
+                                pointService.chargePoints(email, AMOUNT);
+                            } else if (op < 6) {
+                                pointService.usePoints(email, AMOUNT);
+                            } else {
+                                gameService.playDiceGame(email, gameRequest);
+                            }
+                        } catch (IllegalArgumentException e) {
+                            rejected.incrementAndGet(); // 잔액 부족 (정상 거절)
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - opStart;
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long[] latencies = new long[WORKERS * OPS_PER_WORKER];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] part = future.get();
+            System.arraycopy(part, 0, latencies, offset, part.length);
+            offset += part.length;
+        }
+        Arrays.sort(latencies);
+
+        long lockCount = count("point.balance.lock") - lockCountBefore;
+        double lockWaitMillis = totalMillis("point.balance.lock") - lockWaitBefore;
+        double acquireMillis = totalMillis("hikaricp.connections.acquire") - acquireBefore;
+
+        System.out.printf("""
+                        [부하 테스트] %s (가상 스레드 %d개 x %d회, 회원 %d명)
+                          처리량        : %.0f ops/s (%d ops / %.2f s)
+                          지연시간      : p50 %.2f ms, p99 %.2f ms, p999 %.2f ms, max %.2f ms
+                          잔액 락 대기  : 평균 %.3f ms, 합계 %.0f ms (%d회)
+                          커넥션 대기   : 합계 %.0f ms
+                          잔액 부족 거절: %d, 오류: %d
+                        %n""",
+                distribution, WORKERS, OPS_PER_WORKER, emails.size(),
+                latencies.length / (elapsedNanos / 1e9), latencies.length, elapsedNanos / 1e9,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                percentileMillis(latencies, 0.999), latencies[latencies.length - 1] / 1e6,
+                lockCount == 0 ? 0.0 : lockWaitMillis / lockCount, lockWaitMillis, lockCount,
+                acquireMillis,
+                rejected.get(), errors.get());
+
+        // 불변식 검증
+        assertEquals(0L, errors.get(), "잔액 부족 외의 오류가 발생함");
+
+        Long negative = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member WHERE current_points < 0", Long.class);
+        assertEquals(0L, negative, "음수 잔액 회원이 있음");
+
+        List<String> mismatched = jdbcTemplate.queryForList(
+                "SELECT m.email FROM member m "
+                        + "LEFT JOIN (SELECT member_id, SUM(amount) AS total FROM point_history GROUP BY member_id) h "
+                        + "ON h.member_id = m.member_id "
+                        + "WHERE m.current_points <> COALESCE(h.total, 0)",
+                String.class);
+        assertEquals(List.of(), mismatched, "잔액과 포인트 내역 합계가 다른 회원이 있음");
+    }
+
+    // 시나리오마다 새 회원 생성 + 초기 포인트 충전 (내역 합계에 포함되도록 충전 API 사용)
+    private List<String> prepareMembers(String prefix) {
+        int count = MEMBERS;
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(Member.builder()
+                    .email(prefix + i + "@loadtest.com")
+                    .password("{noop}loadtest")
+                    .nickname(prefix.charAt(0) + Integer.toString(i, 36))
+                    .role(Role.USER)
+                    .build());
+        }
+        memberRepository.saveAll(members);
+
+        List<String> emails = members.stream().map(Member::getEmail).toList();
+        emails.forEach(email -> pointService.chargePoints(email, INITIAL_POINTS));
+        return emails;
+    }
+
+    // HOT_KEY: 90% 요청이 0번 회원
+    private static int pick(Distribution distribution, ThreadLocalRandom random) {
+        if (distribution == Distribution.HOT_KEY && random.nextInt(10) < 9) {
+            return 0;
+        }
+        return random.nextInt(MEMBERS);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private double totalMillis(String name) {
+        return meterRegistry.find(name).timers().stream()
+                .mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS))
+                .sum();
+    }
+
+    private long count(String name) {
+        return meterRegistry.find(name).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
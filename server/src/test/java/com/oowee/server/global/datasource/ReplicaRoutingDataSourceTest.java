@@ -0,0 +1,116 @@
+package com.oowee.server.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 DB 두 개(H2 메모리 DB)로 primary / 읽기 복제본 라우팅 확인
+ * 각 DB 의 marker 테이블에 자기 이름을 넣어 두고, 조회 결과로 어느 쪽으로 갔는지 판단
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary");
+        DataSource replica = database("routing_replica");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replica, 3000, meterRegistry);
+        lagMonitor.record(0L);
+
+        RecentWriters recentWriters = new RecentWriters(1000, Duration.ofMinutes(1));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica,
+                recentWriters, new ReplicaReadPolicy(recentWriters, lagMonitor, 5000), meterRegistry));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본() {
+        assertEquals("routing_replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void 쓰기_트랜잭션과_트랜잭션_밖_쿼리는_primary() {
+        assertEquals("routing_primary", readWrite.execute(status -> marker()));
+        assertEquals("routing_primary", marker());
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_primary() {
+        lagMonitor.record(10L);
+        assertEquals("routing_primary", readOnly.execute(status -> marker()));
+
+        lagMonitor.record(null);
+        assertEquals("routing_primary", readOnly.execute(status -> marker()));
+
+        lagMonitor.record(1L);
+        assertEquals("routing_replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void 방금_쓴_회원의_조회는_primary() {
+        signIn("writer@oowee.com");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET touched = touched + 1"));
+        assertEquals("routing_primary", readOnly.execute(status -> marker()));
+
+        // 다른 회원은 그대로 복제본
+        signIn("reader@oowee.com");
+        assertEquals("routing_replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void onPrimary_안의_조회는_primary() {
+        assertEquals("routing_primary", ReadRouting.onPrimary(() -> readOnly.execute(status -> marker())));
+        assertEquals("routing_replica", readOnly.execute(status -> marker()));
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS marker");
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(32), touched INT)");
+        jdbc.update("INSERT INTO marker VALUES (?, 0)", name);
+        return dataSource;
+    }
+}